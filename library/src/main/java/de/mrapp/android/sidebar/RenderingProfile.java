@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar;
+
+/**
+ * Contains all possible rendering profiles, which specify how expensive the visual effects of a
+ * sidebar are allowed to be.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public enum RenderingProfile {
+
+    /**
+     * If the rendering profile should be chosen depending on the device. The profile
+     * <code>LITE</code> is used on low RAM devices, while the battery saver is enabled or if
+     * animations are disabled in the developer options. Otherwise, the profile <code>FULL</code>
+     * is used.
+     */
+    AUTOMATIC(0),
+
+    /**
+     * If all visual effects should be used.
+     */
+    FULL(1),
+
+    /**
+     * If only cheap visual effects should be used. The sidebar is shown and hidden without an
+     * animation, no shadow is drawn, the overlay of the content is not faded and the content is
+     * always moved instead of being resized.
+     */
+    LITE(2);
+
+    /**
+     * The value of the rendering profile.
+     */
+    private int value;
+
+    /**
+     * Creates a new rendering profile.
+     *
+     * @param value
+     *         The value of the rendering profile
+     */
+    RenderingProfile(final int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the value of the rendering profile.
+     *
+     * @return The value of the rendering profile
+     */
+    public final int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the rendering profile, which belongs to a specific value.
+     *
+     * @param value
+     *         The value of the rendering profile, which should be returned
+     * @return The rendering profile, which belongs to the given value
+     */
+    public static RenderingProfile fromValue(final int value) {
+        for (RenderingProfile renderingProfile : values()) {
+            if (renderingProfile.value == value) {
+                return renderingProfile;
+            }
+        }
+
+        throw new IllegalArgumentException();
+    }
+
+}
@@ -14,38 +14,57 @@
 package de.mrapp.android.sidebar;
 
 import android.annotation.TargetApi;
+import android.app.ActivityManager;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.content.res.Resources.NotFoundException;
 import android.content.res.TypedArray;
+import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Rect;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
 import android.os.Parcelable;
+import android.os.PowerManager;
+import android.provider.Settings;
 import android.util.AttributeSet;
 import android.util.Pair;
 import android.view.KeyEvent;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewParent;
 import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.Animation;
 import android.view.animation.Animation.AnimationListener;
+import android.view.animation.AnimationUtils;
 import android.view.animation.DecelerateInterpolator;
 import android.view.animation.Interpolator;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
 import androidx.annotation.ColorInt;
 import androidx.annotation.DrawableRes;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.content.ContextCompat;
 import de.mrapp.android.sidebar.animation.ContentViewResizeAnimation;
 import de.mrapp.android.sidebar.animation.ContentViewScrollAnimation;
 import de.mrapp.android.sidebar.animation.SidebarViewAnimation;
 import de.mrapp.android.sidebar.inflater.Inflater;
 import de.mrapp.android.sidebar.inflater.InflaterFactory;
+import de.mrapp.android.sidebar.inflater.ViewRetainer;
 import de.mrapp.android.sidebar.savedstate.SidebarSavedState;
+import de.mrapp.android.sidebar.util.Validation;
 import de.mrapp.android.sidebar.view.ContentView;
+import de.mrapp.android.sidebar.view.ContentViewPool;
 import de.mrapp.android.sidebar.view.SidebarView;
 import de.mrapp.android.util.ElevationUtil;
 import de.mrapp.android.util.gesture.DragHelper;
@@ -107,6 +126,12 @@ public class Sidebar extends ViewGroup {
      */
     protected static final ContentMode DEFAULT_CONTENT_MODE = ContentMode.SCROLL;
 
+    /**
+     * The default rendering profile, which specifies how expensive the visual effects of the
+     * sidebar are allowed to be.
+     */
+    protected static final RenderingProfile DEFAULT_RENDERING_PROFILE = RenderingProfile.AUTOMATIC;
+
     /**
      * The default ratio between the distance, the sidebar is moved by, when it becomes shown or
      * hidden, in relation to the distance, the content is moved by.
@@ -137,6 +162,26 @@ public class Sidebar extends ViewGroup {
      */
     protected static final float DEFAULT_DRAG_SENSITIVITY = 0.25f;
 
+    /**
+     * The default width of the region at the edge of the parent view in dp, where drag gestures are
+     * recognized, when using the drag mode <code>DragMode.EDGE</code>.
+     */
+    protected static final int DEFAULT_EDGE_WIDTH = 4;
+
+    /**
+     * The default height of the band at the top of the parent view in dp, which is excluded from
+     * the region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>.
+     */
+    protected static final int DEFAULT_EDGE_MARGIN_TOP = 0;
+
+    /**
+     * The default height of the band at the bottom of the parent view in dp, which is excluded
+     * from the region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>.
+     */
+    protected static final int DEFAULT_EDGE_MARGIN_BOTTOM = 0;
+
     /**
      * Specifies, whether by default the sidebar should be hidden, when the device's back button is
      * clicked, or not.
@@ -155,6 +200,24 @@ public class Sidebar extends ViewGroup {
      */
     protected static final boolean DEFAULT_SHOW_ON_SIDEBAR_CLICK = true;
 
+    /**
+     * Specifies, whether by default the listeners should be notified after the frame, which
+     * finishes an animation, has been drawn, or not.
+     */
+    protected static final boolean DEFAULT_DEFER_LISTENER_NOTIFICATIONS = false;
+
+    /**
+     * Specifies, whether by default the content should be frozen, while the sidebar is shown, or
+     * not.
+     */
+    protected static final boolean DEFAULT_FREEZE_CONTENT_WHEN_SHOWN = false;
+
+    /**
+     * Specifies, whether by default the views, which have been inflated from layout resources,
+     * should be retained across the recreation of the activity, or not.
+     */
+    protected static final boolean DEFAULT_RETAIN_VIEWS = false;
+
     /**
      * The default color of the overlay, which is shown in front of the main content, when the
      * sidebar is shown.
@@ -172,6 +235,12 @@ public class Sidebar extends ViewGroup {
      */
     protected static final int DEFAULT_SIDEBAR_ELEVATION = 16;
 
+    /**
+     * The default maximum number of content views, which are retained in order to be reused, when
+     * they become shown again.
+     */
+    protected static final int DEFAULT_CONTENT_VIEW_POOL_SIZE = 0;
+
     /**
      * True, if the sidebar should be shown by default, false otherwise.
      */
@@ -189,20 +258,15 @@ public class Sidebar extends ViewGroup {
      */
     private static final int MAX_DRAG_SENSITIVITY = 260;
 
-    /**
-     * The tolerance in dp, which is used to determine, if a drag gesture has been started at the
-     * edge of the sidebar's parent view, when using the drag mode <code>DragMode.EDGE</code>.
-     */
-    private static final int EDGE_DRAGGING_TOLERANCE = 4;
-
     /**
      * The location of the sidebar.
      */
     private Location location;
 
     /**
-     * The speed of the animation, which is used to show or hide the sidebar, in pixels per
-     * millisecond.
+     * The speed of the animation, which is used to show or hide the sidebar, in dp per
+     * millisecond. It is converted to pixels, whenever an animation is started, using the
+     * display's current density.
      */
     private float animationSpeed;
 
@@ -235,6 +299,31 @@ public class Sidebar extends ViewGroup {
      */
     private ContentMode contentMode;
 
+    /**
+     * The rendering profile, which specifies how expensive the visual effects of the sidebar are
+     * allowed to be.
+     */
+    private RenderingProfile renderingProfile;
+
+    /**
+     * The rendering profile, which is actually used. It is either <code>FULL</code> or
+     * <code>LITE</code>.
+     */
+    private transient RenderingProfile effectiveRenderingProfile = RenderingProfile.FULL;
+
+    /**
+     * True, if cheap visual effects are preferred on the device, false otherwise. The value is
+     * only determined again, when the sidebar is attached to a window or the configuration
+     * changes, rather than each time the rendering profile is updated.
+     */
+    private transient boolean cheapRenderingPreferred;
+
+    /**
+     * True, if it has already been determined, whether cheap visual effects are preferred on the
+     * device, false otherwise.
+     */
+    private transient boolean cheapRenderingPreferenceDetermined;
+
     /**
      * The ratio between the distance, the sidebar is moved by, when it becomes shown or hidden, in
      * relation to the distance, the content is moved by.
@@ -265,6 +354,26 @@ public class Sidebar extends ViewGroup {
      */
     private float dragSensitivity;
 
+    /**
+     * The width of the region at the edge of the parent view in pixels, where drag gestures are
+     * recognized, when using the drag mode <code>DragMode.EDGE</code>.
+     */
+    private int edgeWidth;
+
+    /**
+     * The height of the band at the top of the parent view in pixels, which is excluded from the
+     * region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>.
+     */
+    private int edgeMarginTop;
+
+    /**
+     * The height of the band at the bottom of the parent view in pixels, which is excluded from
+     * the region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>.
+     */
+    private int edgeMarginBottom;
+
     /**
      * True, if the sidebar should be hidden, when the device's back button is clicked, false
      * otherwise.
@@ -282,6 +391,35 @@ public class Sidebar extends ViewGroup {
      */
     private boolean showOnSidebarClick;
 
+    /**
+     * True, if the listeners should be notified after the frame, which finishes an animation, has
+     * been drawn, false otherwise.
+     */
+    private boolean deferListenerNotifications;
+
+    /**
+     * True, if the content should be frozen, while the sidebar is shown, false otherwise.
+     */
+    private boolean freezeContentWhenShown;
+
+    /**
+     * True, if the views, which have been inflated from layout resources, should be retained
+     * across the recreation of the activity, false otherwise.
+     */
+    private boolean retainViews;
+
+    /**
+     * The layout resource id of the primary sidebar's view or -1, if the view has not been
+     * inflated from a layout resource.
+     */
+    private transient int sidebarViewId = -1;
+
+    /**
+     * The layout resource id of the content view or -1, if the view has not been inflated from a
+     * layout resource.
+     */
+    private transient int contentViewId = -1;
+
     /**
      * The color of the overlay, which is shown in front of the main content, when the sidebar is
      * shown.
@@ -299,6 +437,12 @@ public class Sidebar extends ViewGroup {
      */
     private int sidebarElevation;
 
+    /**
+     * The maximum number of content views, which are retained in order to be reused, when they
+     * become shown again.
+     */
+    private int contentViewPoolSize;
+
     /**
      * True, if the sidebar is currently shown, false otherwise.
      */
@@ -316,15 +460,68 @@ public class Sidebar extends ViewGroup {
     private transient ListenerList<SidebarListener> listeners;
 
     /**
-     * The view, which contains the sidebar and its shadow.
+     * A set, which contains the listeners, which have registered to be notified, when the sidebar
+     * starts or stops being dragged or animated.
+     */
+    private transient ListenerList<SidebarTransitionListener> transitionListeners;
+
+    /**
+     * A list, which contains the actions, which should be executed, once the sidebar has become
+     * hidden.
+     */
+    private transient List<Runnable> pendingActions;
+
+    /**
+     * A queue, which contains the notifications, which have not been delivered to the listeners
+     * yet. True stands for the sidebar becoming shown, false for the sidebar becoming hidden.
+     */
+    private transient Queue<Boolean> pendingNotifications;
+
+    /**
+     * The runnable, which delivers the pending notifications to the listeners.
+     */
+    private transient Runnable notificationDispatcher;
+
+    /**
+     * The view, which contains the sidebar, which is currently active, and its shadow.
      */
     private transient SidebarView sidebarView;
 
+    /**
+     * The view, which contains the sidebar, which is currently not active, and its shadow, or null,
+     * if no secondary sidebar is used.
+     */
+    private transient SidebarView inactiveSidebarView;
+
+    /**
+     * True, if the secondary sidebar, which is located at the opposite side of the primary
+     * sidebar, is currently active, false otherwise.
+     */
+    private transient boolean secondarySidebarActive;
+
     /**
      * The view, which contains the content and its overlay.
      */
     private transient ContentView contentView;
 
+    /**
+     * The pool, which retains content views, which are currently not shown, or null, if no content
+     * views are retained.
+     */
+    private transient ContentViewPool contentViewPool;
+
+    /**
+     * The key, which identifies the current content view within the pool, or null, if the content
+     * view should not be retained, when it is replaced.
+     */
+    private transient Object contentViewKey;
+
+    /**
+     * The callbacks, which are used to trim the pool of content views, when the memory becomes
+     * low.
+     */
+    private transient ComponentCallbacks2 componentCallbacks;
+
     /**
      * A helper variable, which contains the sidebar's width in pixels.
      */
@@ -340,11 +537,111 @@ public class Sidebar extends ViewGroup {
      */
     private transient int mOffset;
 
+    /**
+     * The region of the sidebar, which can currently be clicked. It is updated whenever the
+     * sidebar is laid out or becomes shown or hidden.
+     */
+    private transient Rect sidebarHitRect;
+
+    /**
+     * The region at the edge of the parent view, where drag gestures are recognized, when using the
+     * drag mode <code>DragMode.EDGE</code>. It is updated whenever the sidebar is laid out or
+     * becomes shown or hidden.
+     */
+    private transient Rect edgeHitRect;
+
+    /**
+     * The region, which has most recently been excluded from the system's gesture navigation, or
+     * an empty rectangle, if no region is excluded.
+     */
+    private transient Rect gestureExclusionRect;
+
+    /**
+     * The region at the edge of the opposite side, where drag gestures are recognized, when using
+     * the drag mode <code>DragMode.EDGE</code> and a secondary sidebar. The region is empty, if no
+     * secondary sidebar is used.
+     */
+    private transient Rect mirroredEdgeHitRect;
+
+    /**
+     * The region at the edge of the opposite side, which is currently excluded from system
+     * gestures.
+     */
+    private transient Rect mirroredGestureExclusionRect;
+
+    /**
+     * A list, which is reused to pass the regions, which should be excluded from the system's
+     * gesture navigation, to the system.
+     */
+    private transient List<Rect> gestureExclusionRects;
+
     /**
      * An instance of the class {@link DragHelper}, which is used to recognize drag gestures.
      */
     private transient DragHelper dragHelper;
 
+    /**
+     * A snapshot of the display-dependent values, which are used to handle touch events and to
+     * animate. It is renewed whenever the configuration changes.
+     */
+    private transient SidebarMetrics metrics;
+
+    /**
+     * The horizontal position, the current touch gesture has been started at.
+     */
+    private transient float touchDownX;
+
+    /**
+     * The vertical position, the current touch gesture has been started at.
+     */
+    private transient float touchDownY;
+
+    /**
+     * True, if dragging is allowed at the position, the current touch gesture has been started at,
+     * false otherwise. The value is determined once, when the gesture is started, because it only
+     * depends on the start position and on whether the sidebar was shown at that time.
+     */
+    private transient boolean draggingAllowed;
+
+    /**
+     * True, if the current touch gesture has been recognized as a drag gesture, which moves the
+     * sidebar, false otherwise.
+     */
+    private transient boolean beingDragged;
+
+    /**
+     * True, if the current touch gesture has been ruled out as a drag gesture, which moves the
+     * sidebar, false otherwise.
+     */
+    private transient boolean gestureRejected;
+
+    /**
+     * The distance of the animation, which is currently running, in pixels.
+     */
+    private transient float animationDistance;
+
+    /**
+     * True, if the animation, which is currently running, shows the sidebar, false otherwise.
+     */
+    private transient boolean animationShow;
+
+    /**
+     * The progress of a transition, which has been interrupted by saving the sidebar's state and
+     * should be resumed at the next layout, or -1, if no transition should be resumed.
+     */
+    private transient float resumedTransitionProgress = -1;
+
+    /**
+     * True, if a transition, which should be resumed, shows the sidebar, false otherwise.
+     */
+    private transient boolean resumedTransitionShow;
+
+    /**
+     * True, if the listeners have been notified about the current drag gesture having been
+     * started, false otherwise.
+     */
+    private transient boolean dragStarted;
+
     /**
      * Initializes the sidebar.
      *
@@ -353,11 +650,42 @@ public class Sidebar extends ViewGroup {
      *         {@link AttributeSet} or null, if no attributes should be obtained
      */
     private void initialize(@Nullable final AttributeSet attributeSet) {
+        initialize();
+        obtainStyledAttributes(attributeSet);
+    }
+
+    /**
+     * Initializes the sidebar by using a specific configuration.
+     *
+     * @param configuration
+     *         The configuration, which should be applied, as an instance of the class {@link
+     *         SidebarConfiguration}. The configuration may not be null
+     */
+    private void initialize(@NonNull final SidebarConfiguration configuration) {
+        initialize();
+        applyConfiguration(configuration);
+    }
+
+    /**
+     * Initializes the sidebar's internal state, regardless of how its attributes are obtained.
+     */
+    private void initialize() {
         this.listeners = new ListenerList<>();
+        this.transitionListeners = new ListenerList<>();
+        this.pendingActions = new ArrayList<>();
+        this.pendingNotifications = new ArrayDeque<>();
+        this.notificationDispatcher = createNotificationDispatcher();
         this.shown = false;
         this.dragHelper = new DragHelper(calculateDragSensitivity());
+        this.metrics = new SidebarMetrics(getContext());
+        this.sidebarHitRect = new Rect();
+        this.edgeHitRect = new Rect();
+        this.gestureExclusionRect = new Rect();
+        this.mirroredEdgeHitRect = new Rect();
+        this.mirroredGestureExclusionRect = new Rect();
+        this.gestureExclusionRects = new ArrayList<>(2);
+        this.componentCallbacks = createComponentCallbacks();
         this.setFocusableInTouchMode(true);
-        obtainStyledAttributes(attributeSet);
     }
 
     /**
@@ -375,9 +703,13 @@ public class Sidebar extends ViewGroup {
             obtainContentOverlayColor(typedArray);
             obtainContentOverlayTransparency(typedArray);
             obtainSidebarElevation(typedArray);
+            obtainRenderingProfile(typedArray);
             obtainLocation(typedArray);
             obtainSidebarBackground(typedArray);
+            obtainRetainViews(typedArray);
             obtainSidebarView(typedArray);
+            obtainSecondarySidebarView(typedArray);
+            obtainContentViewPoolSize(typedArray);
             obtainContentView(typedArray);
             obtainAnimationSpeed(typedArray);
             obtainSidebarWidth(typedArray);
@@ -390,9 +722,14 @@ public class Sidebar extends ViewGroup {
             obtainDragModeWhenShown(typedArray);
             obtainDragThreshold(typedArray);
             obtainDragSensitivity(typedArray);
+            obtainEdgeWidth(typedArray);
+            obtainEdgeMarginTop(typedArray);
+            obtainEdgeMarginBottom(typedArray);
             obtainHideOnBackButton(typedArray);
             obtainHideOnContentClick(typedArray);
             obtainShowOnSidebarClick(typedArray);
+            obtainDeferListenerNotifications(typedArray);
+            obtainFreezeContentWhenShown(typedArray);
             obtainShowSidebar(typedArray);
         } finally {
             typedArray.recycle();
@@ -480,6 +817,75 @@ public class Sidebar extends ViewGroup {
         }
     }
 
+    /**
+     * Obtains the boolean value, which specifies, whether the listeners should be notified after
+     * the frame, which finishes an animation, has been drawn, from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the boolean value should be obtained from, as an instance of the
+     *         class {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainDeferListenerNotifications(@NonNull final TypedArray typedArray) {
+        deferListenerNotifications(typedArray
+                .getBoolean(R.styleable.Sidebar_deferListenerNotifications,
+                        DEFAULT_DEFER_LISTENER_NOTIFICATIONS));
+    }
+
+    /**
+     * Obtains the boolean value, which specifies, whether the views, which have been inflated from
+     * layout resources, should be retained across the recreation of the activity, from a specific
+     * typed array.
+     *
+     * @param typedArray
+     *         The typed array, the boolean value should be obtained from, as an instance of the
+     *         class {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainRetainViews(@NonNull final TypedArray typedArray) {
+        retainViews(typedArray.getBoolean(R.styleable.Sidebar_retainViews, DEFAULT_RETAIN_VIEWS));
+    }
+
+    /**
+     * Obtains the boolean value, which specifies, whether the content should be frozen, while the
+     * sidebar is shown, from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the boolean value should be obtained from, as an instance of the
+     *         class {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainFreezeContentWhenShown(@NonNull final TypedArray typedArray) {
+        freezeContentWhenShown(typedArray
+                .getBoolean(R.styleable.Sidebar_freezeContentWhenShown,
+                        DEFAULT_FREEZE_CONTENT_WHEN_SHOWN));
+    }
+
+    /**
+     * Obtains the view of the secondary sidebar from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the view should be obtained from, as an instance of the class {@link
+     *         TypedArray}. The typed array may not be null
+     */
+    private void obtainSecondarySidebarView(@NonNull final TypedArray typedArray) {
+        int resourceId = typedArray.getResourceId(R.styleable.Sidebar_secondarySidebarView, -1);
+
+        if (resourceId != -1) {
+            setSecondarySidebarView(resourceId);
+        }
+    }
+
+    /**
+     * Obtains the maximum number of content views, which are retained in order to be reused, from
+     * a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the maximum number of content views should be obtained from, as an
+     *         instance of the class {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainContentViewPoolSize(@NonNull final TypedArray typedArray) {
+        setContentViewPoolSize(typedArray.getInt(R.styleable.Sidebar_contentViewPoolSize,
+                DEFAULT_CONTENT_VIEW_POOL_SIZE));
+    }
+
     /**
      * Obtains the location of the sidebar from a specific typed array.
      *
@@ -557,6 +963,19 @@ public class Sidebar extends ViewGroup {
                         DEFAULT_MAX_SIDEBAR_OFFSET));
     }
 
+    /**
+     * Obtains the rendering profile from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the rendering profile should be obtained from, as an instance of the
+     *         class {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainRenderingProfile(@NonNull final TypedArray typedArray) {
+        setRenderingProfile(RenderingProfile.fromValue(typedArray
+                .getInt(R.styleable.Sidebar_renderingProfile,
+                        DEFAULT_RENDERING_PROFILE.getValue())));
+    }
+
     /**
      * Obtains the content mode, which specifies how the content view is handled when the sidebar
      * becomes shown or hidden, from a specific typed array.
@@ -637,6 +1056,50 @@ public class Sidebar extends ViewGroup {
                 .getFraction(R.styleable.Sidebar_dragSensitivity, 1, 1, DEFAULT_DRAG_SENSITIVITY));
     }
 
+    /**
+     * Obtains the width of the region at the edge of the parent view, where drag gestures are
+     * recognized, when using the drag mode <code>DragMode.EDGE</code>, from a specific typed
+     * array.
+     *
+     * @param typedArray
+     *         The typed array, the width should be obtained from, as an instance of the class
+     *         {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainEdgeWidth(@NonNull final TypedArray typedArray) {
+        setEdgeWidthInPixels(typedArray.getDimensionPixelSize(R.styleable.Sidebar_edgeWidth,
+                dpToPixels(getContext(), DEFAULT_EDGE_WIDTH)));
+    }
+
+    /**
+     * Obtains the height of the band at the top of the parent view, which is excluded from the
+     * region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>, from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the height should be obtained from, as an instance of the class
+     *         {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainEdgeMarginTop(@NonNull final TypedArray typedArray) {
+        setEdgeMarginTopInPixels(typedArray
+                .getDimensionPixelSize(R.styleable.Sidebar_edgeMarginTop,
+                        dpToPixels(getContext(), DEFAULT_EDGE_MARGIN_TOP)));
+    }
+
+    /**
+     * Obtains the height of the band at the bottom of the parent view, which is excluded from the
+     * region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>, from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the height should be obtained from, as an instance of the class
+     *         {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainEdgeMarginBottom(@NonNull final TypedArray typedArray) {
+        setEdgeMarginBottomInPixels(typedArray
+                .getDimensionPixelSize(R.styleable.Sidebar_edgeMarginBottom,
+                        dpToPixels(getContext(), DEFAULT_EDGE_MARGIN_BOTTOM)));
+    }
+
     /**
      * Obtains the boolean value, which specifies, whether the sidebar should be hidden, when the
      * device's back button is clicked, from a specific typed array.
@@ -700,7 +1163,7 @@ public class Sidebar extends ViewGroup {
         Condition.INSTANCE
                 .ensureAtLeast(maxSidebarWidth, -1, "The max sidebar width must be at least -1");
         this.maxSidebarWidth = maxSidebarWidth;
-        measureSidebarWidth();
+        measureSidebarWidth(getWidth());
         requestLayout();
     }
 
@@ -714,10 +1177,56 @@ public class Sidebar extends ViewGroup {
         Condition.INSTANCE
                 .ensureAtLeast(maxSidebarOffset, -1, "The max sidebar offset must be at least -1");
         this.maxSidebarOffset = maxSidebarOffset;
-        measureSidebarOffset();
+        measureSidebarOffset(getWidth());
         requestLayout();
     }
 
+    /**
+     * Sets the width of the region at the edge of the parent view, where drag gestures are
+     * recognized, when using the drag mode <code>DragMode.EDGE</code>, in pixels.
+     *
+     * @param edgeWidth
+     *         The width, which should be set, in pixels as an {@link Integer} value. The width must
+     *         be greater than 0
+     */
+    private void setEdgeWidthInPixels(final int edgeWidth) {
+        Condition.INSTANCE.ensureGreater(edgeWidth, 0, "The edge width must be greater than 0");
+        this.edgeWidth = edgeWidth;
+        updateHitRects();
+    }
+
+    /**
+     * Sets the height of the band at the top of the parent view, which is excluded from the region,
+     * where drag gestures are recognized, when using the drag mode <code>DragMode.EDGE</code>, in
+     * pixels.
+     *
+     * @param edgeMarginTop
+     *         The height, which should be set, in pixels as an {@link Integer} value. The height
+     *         must be at least 0
+     */
+    private void setEdgeMarginTopInPixels(final int edgeMarginTop) {
+        Condition.INSTANCE
+                .ensureAtLeast(edgeMarginTop, 0, "The top edge margin must be at least 0");
+        this.edgeMarginTop = edgeMarginTop;
+        updateHitRects();
+    }
+
+    /**
+     * Sets the height of the band at the bottom of the parent view, which is excluded from the
+     * region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>, in pixels.
+     *
+     * @param edgeMarginBottom
+     *         The height, which should be set, in pixels as an {@link Integer} value. The height
+     *         must be at least 0
+     */
+    private void setEdgeMarginBottomInPixels(final int edgeMarginBottom) {
+        Condition.INSTANCE
+                .ensureAtLeast(edgeMarginBottom, 0, "The bottom edge margin must be at least 0");
+        this.edgeMarginBottom = edgeMarginBottom;
+        updateHitRects();
+    }
+
     /**
      * Inflates and adds the sidebar view by using a specific inflater.
      *
@@ -726,39 +1235,269 @@ public class Sidebar extends ViewGroup {
      *         inflater may not be null
      */
     private void inflateSidebarView(@NonNull final Inflater inflater) {
-        if (sidebarView != null) {
-            removeView(sidebarView);
+        SidebarView primarySidebarView = getPrimarySidebarContainer();
+
+        if (primarySidebarView != null) {
+            removeView(primarySidebarView);
+        }
+
+        primarySidebarView = new SidebarView(getContext(), inflater, getLocation(),
+                sidebarBackground, getEffectiveSidebarElevation());
+
+        if (secondarySidebarActive) {
+            inactiveSidebarView = primarySidebarView;
+        } else {
+            sidebarView = primarySidebarView;
         }
 
-        sidebarView = new SidebarView(getContext(), inflater, getLocation(), sidebarBackground,
-                sidebarElevation);
-        addView(sidebarView, ViewGroup.LayoutParams.MATCH_PARENT,
+        addView(primarySidebarView, ViewGroup.LayoutParams.MATCH_PARENT,
                 ViewGroup.LayoutParams.MATCH_PARENT);
         bringSidebarToFront();
     }
 
     /**
-     * Inflates and adds the content view by using a specific inflater.
+     * Inflates and adds the view of the secondary sidebar, which is located at the opposite side of
+     * the primary sidebar, by using a specific inflater.
      *
      * @param inflater
-     *         The inflater, which should be used, as an instance of the type {@link Inflater}. The
-     *         inflater may not be null
+     *         The inflater, which should be used, as an instance of the type {@link Inflater} or
+     *         null, if the secondary sidebar should be removed
      */
-    private void inflateContentView(@NonNull final Inflater inflater) {
-        if (contentView != null) {
-            removeView(contentView);
-        }
+    private void inflateSecondarySidebarView(@Nullable final Inflater inflater) {
+        SidebarView secondarySidebarView = getSecondarySidebarContainer();
 
-        contentView = new ContentView(getContext(), inflater, getContentOverlayColor());
+        if (secondarySidebarView != null) {
+            if (secondarySidebarActive) {
+                switchSides();
+            }
+
+            removeView(secondarySidebarView);
+            inactiveSidebarView = null;
+        }
+
+        if (inflater != null) {
+            inactiveSidebarView = new SidebarView(getContext(), inflater, getOppositeLocation(),
+                    sidebarBackground, getEffectiveSidebarElevation());
+            addView(inactiveSidebarView, ViewGroup.LayoutParams.MATCH_PARENT,
+                    ViewGroup.LayoutParams.MATCH_PARENT);
+            bringSidebarToFront();
+        }
+
+        measureSidebarOffset(getWidth());
+        updateHitRects();
+        requestLayout();
+    }
+
+    /**
+     * Returns the view, which contains the primary sidebar and its shadow.
+     *
+     * @return The view, which contains the primary sidebar and its shadow, as an instance of the
+     * class {@link SidebarView} or null, if no sidebar view has been set
+     */
+    private SidebarView getPrimarySidebarContainer() {
+        return secondarySidebarActive ? inactiveSidebarView : sidebarView;
+    }
+
+    /**
+     * Returns the view, which contains the secondary sidebar and its shadow.
+     *
+     * @return The view, which contains the secondary sidebar and its shadow, as an instance of the
+     * class {@link SidebarView} or null, if no secondary sidebar is used
+     */
+    private SidebarView getSecondarySidebarContainer() {
+        return secondarySidebarActive ? sidebarView : inactiveSidebarView;
+    }
+
+    /**
+     * Returns the location of the sidebar, which is currently active. Unless the secondary sidebar
+     * is active, this is the location of the primary sidebar.
+     *
+     * @return The location of the sidebar, which is currently active, as a value of the enum {@link
+     * Location}
+     */
+    private Location getActiveLocation() {
+        return secondarySidebarActive ? getOppositeLocation() : getLocation();
+    }
+
+    /**
+     * Returns the location, which is opposite to the location of the primary sidebar.
+     *
+     * @return The location, which is opposite to the location of the primary sidebar, as a value
+     * of the enum {@link Location}
+     */
+    private Location getOppositeLocation() {
+        return getLocation() == Location.LEFT ? Location.RIGHT : Location.LEFT;
+    }
+
+    /**
+     * Switches the sidebar, which is currently active, with the inactive one. The sidebars may
+     * only be switched, while they are hidden and not moving.
+     */
+    private void switchSides() {
+        SidebarView previousSidebarView = sidebarView;
+        sidebarView = inactiveSidebarView;
+        inactiveSidebarView = previousSidebarView;
+        secondarySidebarActive = !secondarySidebarActive;
+        bringSidebarToFront();
+        updateHitRects();
+    }
+
+    /**
+     * Activates the sidebar, which is located at a specific side, if it is not already active and
+     * if the sidebars are hidden and not moving.
+     *
+     * @param location
+     *         The location of the sidebar, which should be activated, as a value of the enum {@link
+     *         Location}. The location may not be null
+     * @return True, if the sidebar, which is located at the given side, is active, false otherwise
+     */
+    private boolean activateSide(@NonNull final Location location) {
+        if (getActiveLocation() != location) {
+            if (inactiveSidebarView == null || sidebarView == null || isSidebarShown() ||
+                    isAnimationRunning() || isDragging()) {
+                return false;
+            }
+
+            switchSides();
+            requestLayout();
+        }
+
+        return true;
+    }
+
+    /**
+     * Inflates and adds the content view by using a specific inflater. If a content view, which
+     * corresponds to a specific key, is contained by the pool of content views, it is reused
+     * instead. The previous content view is added to the pool, if it has been set using a key.
+     *
+     * @param inflater
+     *         The inflater, which should be used, as an instance of the type {@link Inflater}. The
+     *         inflater may not be null
+     * @param key
+     *         The key, which identifies the content view within the pool of content views, as an
+     *         instance of the class {@link Object} or null, if the content view should not be
+     *         retained
+     */
+    private void inflateContentView(@NonNull final Inflater inflater, @Nullable final Object key) {
+        if (contentView != null) {
+            removeView(contentView);
+            contentView.clearAnimation();
+            contentView.unfreeze();
+
+            if (contentViewPool != null && contentViewKey != null) {
+                contentViewPool.recycle(contentViewKey, contentView);
+            }
+        }
+
+        ContentView pooledContentView =
+                contentViewPool != null && key != null ? contentViewPool.obtain(key) : null;
+
+        if (pooledContentView != null) {
+            contentView = pooledContentView;
+            contentView.setOverlayColor(getContentOverlayColor());
+        } else {
+            contentView = new ContentView(getContext(), inflater, getContentOverlayColor());
+        }
+
+        contentViewKey = key;
         addView(contentView, ViewGroup.LayoutParams.MATCH_PARENT,
                 ViewGroup.LayoutParams.MATCH_PARENT);
         bringSidebarToFront();
+
+        if (isSidebarShown()) {
+            contentView.prepareOverlay();
+        }
+    }
+
+    /**
+     * Creates and returns an inflater, which allows to inflate the view, which corresponds to a
+     * specific layout resource. If views should be retained across the recreation of the activity,
+     * a view, which has been retained for the sidebar and the layout resource, is reused.
+     *
+     * @param layoutId
+     *         The resource id of the layout, which should be inflated, as an {@link Integer} value
+     * @return The inflater, which has been created, as an instance of the type {@link Inflater}.
+     * The inflater may not be null
+     */
+    @NonNull
+    private Inflater createInflater(@LayoutRes final int layoutId) {
+        return retainViews ?
+                InflaterFactory.createInflater(getId(), layoutId, ViewRetainer.getInstance()) :
+                InflaterFactory.createInflater(layoutId);
+    }
+
+    /**
+     * Hands the views, which have been inflated from layout resources, over to the {@link
+     * ViewRetainer}, if the activity is recreated due to a configuration change, in order to reuse
+     * them, when the sidebar of the new activity inflates the same layout resources.
+     */
+    private void retainViewsIfChangingConfigurations() {
+        if (retainViews && getId() != NO_ID &&
+                ViewRetainer.isChangingConfigurations(getContext())) {
+            ViewRetainer retainer = ViewRetainer.getInstance();
+            View primarySidebarView = getSidebarView();
+            View mainContentView = getContentView();
+
+            if (sidebarViewId != -1 && primarySidebarView != null) {
+                retainer.retain(getId(), sidebarViewId, primarySidebarView);
+            }
+
+            if (contentViewId != -1 && mainContentView != null) {
+                retainer.retain(getId(), contentViewId, mainContentView);
+            }
+        }
+    }
+
+    /**
+     * Creates and returns the callbacks, which allow to trim the pool of content views, when the
+     * memory becomes low.
+     *
+     * @return The callbacks, which have been created, as an instance of the type {@link
+     * ComponentCallbacks2}
+     */
+    private ComponentCallbacks2 createComponentCallbacks() {
+        return new ComponentCallbacks2() {
+
+            @Override
+            public void onTrimMemory(final int level) {
+                if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+                    SidebarView.clearShadowCache();
+
+                    if (contentView != null) {
+                        contentView.releaseSnapshot();
+                    }
+                }
+
+                if (contentViewPool != null) {
+                    if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+                        contentViewPool.clear();
+                    } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE) {
+                        contentViewPool.trimToSize(contentViewPool.size() / 2);
+                    }
+                }
+            }
+
+            @Override
+            public void onConfigurationChanged(@NonNull final Configuration newConfig) {
+
+            }
+
+            @Override
+            public void onLowMemory() {
+                onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+            }
+
+        };
     }
 
     /**
      * Brings the sidebar view to the front, if it has already been inflated.
      */
     private void bringSidebarToFront() {
+        if (inactiveSidebarView != null) {
+            inactiveSidebarView.bringToFront();
+        }
+
         if (sidebarView != null) {
             sidebarView.bringToFront();
         }
@@ -775,7 +1514,7 @@ public class Sidebar extends ViewGroup {
      */
     private void animateShowSidebar(final float distance,
                                     @NonNull final Interpolator interpolator) {
-        animateShowSidebar(distance, animationSpeed, interpolator);
+        animateShowSidebar(distance, calculateAnimationSpeedInPixels(), interpolator);
     }
 
     /**
@@ -805,7 +1544,7 @@ public class Sidebar extends ViewGroup {
      */
     private void animateHideSidebar(final float distance,
                                     @NonNull final Interpolator interpolator) {
-        animateHideSidebar(distance, animationSpeed, interpolator);
+        animateHideSidebar(distance, calculateAnimationSpeedInPixels(), interpolator);
     }
 
     /**
@@ -847,26 +1586,38 @@ public class Sidebar extends ViewGroup {
                                 final float animationSpeed,
                                 @NonNull final AnimationListener animationListener,
                                 @NonNull final Interpolator interpolator) {
-        if (!isDragging() && !isAnimationRunning()) {
+        if (!isDragging() && !isAnimationRunning() &&
+                effectiveRenderingProfile == RenderingProfile.LITE) {
+            contentView.unfreeze();
+            contentView.prepareOverlay();
+            animationShow = show;
+            notifyOnTransitionStarted(show);
+            completeTransition(show);
+        } else if (!isDragging() && !isAnimationRunning()) {
             long duration = calculateAnimationDuration(distance, animationSpeed);
             Animation contentViewAnimation;
 
-            if (getContentMode() == ContentMode.SCROLL) {
+            if (getEffectiveContentMode() == ContentMode.SCROLL) {
                 contentViewAnimation =
                         new ContentViewScrollAnimation(contentView, duration, distance, scrollRatio,
                                 1 - getContentOverlayTransparency(), show);
             } else {
                 contentViewAnimation =
                         new ContentViewResizeAnimation(contentView, duration, distance,
-                                getLocation(), 1 - getContentOverlayTransparency(), show);
+                                getActiveLocation(), 1 - getContentOverlayTransparency(), show);
             }
 
             Animation sidebarViewAnimation =
                     new SidebarViewAnimation(distance, duration, animationListener);
             contentViewAnimation.setInterpolator(interpolator);
             sidebarViewAnimation.setInterpolator(interpolator);
+            contentView.unfreeze();
+            contentView.prepareOverlay();
+            animationDistance = distance;
+            animationShow = show;
             contentView.startAnimation(contentViewAnimation);
             sidebarView.startAnimation(sidebarViewAnimation);
+            notifyOnTransitionStarted(show);
         }
     }
 
@@ -894,21 +1645,190 @@ public class Sidebar extends ViewGroup {
 
             @Override
             public void onAnimationEnd(final Animation animation) {
-                contentView.clearAnimation();
-                sidebarView.clearAnimation();
-                requestLayout();
-                shown = show;
+                completeTransition(show);
+            }
 
-                if (shown) {
-                    notifyOnSidebarShown();
-                } else {
-                    notifyOnSidebarHidden();
+        };
+    }
+
+    /**
+     * Completes the current transition by moving the sidebar to its final position and notifying
+     * the listeners.
+     *
+     * @param show
+     *         True, if the transition shows the sidebar, false otherwise
+     */
+    private void completeTransition(final boolean show) {
+        clearAnimationsSilently();
+        requestLayout();
+        shown = show;
+        updateHitRects();
+        notifyOnTransitionEnded(show);
+
+        if (deferListenerNotifications) {
+            deferNotification(shown);
+        } else if (shown) {
+            notifyOnSidebarShown();
+        } else {
+            notifyOnSidebarHidden();
+        }
+
+        if (shown && freezeContentWhenShown) {
+            post(createFreezeContentRunnable());
+        } else if (!shown && !pendingActions.isEmpty()) {
+            post(createPendingActionsRunnable());
+        }
+    }
+
+    /**
+     * Clears the animations of the sidebar and the content, without notifying the listener, which
+     * handles the end of the animation. Clearing an animation, which has been started, but not
+     * ended yet, notifies its listener synchronously, which is why the listener is removed first.
+     */
+    private void clearAnimationsSilently() {
+        if (sidebarView != null) {
+            Animation animation = sidebarView.getAnimation();
+
+            if (animation != null) {
+                animation.setAnimationListener(null);
+            }
+
+            sidebarView.clearAnimation();
+        }
+
+        if (contentView != null) {
+            contentView.clearAnimation();
+        }
+    }
+
+    /**
+     * Cancels the current transition, if an animation is running or the sidebar is dragged, by
+     * completing it immediately. A drag gesture is completed the same way, as if it has been
+     * released.
+     */
+    private void cancelTransition() {
+        if (isAnimationRunning()) {
+            completeTransition(animationShow);
+        } else if (isDragging()) {
+            boolean show = isShownOnRelease();
+            dragHelper.reset();
+            endDrag();
+            beingDragged = false;
+            notifyOnTransitionStarted(show);
+            completeTransition(show);
+        }
+    }
+
+    /**
+     * Creates and returns a runnable, which freezes the content, if the sidebar is still shown,
+     * when the runnable is run. As the runnable is posted at the end of an animation, it is run
+     * after the layout pass, which is requested by the end of the animation.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}
+     */
+    private Runnable createFreezeContentRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                freezeContentIfNecessary();
+            }
+
+        };
+    }
+
+    /**
+     * Freezes the content, if the content should be frozen, while the sidebar is shown, and if the
+     * sidebar is currently shown and not moving.
+     */
+    private void freezeContentIfNecessary() {
+        if (freezeContentWhenShown && contentView != null && isSidebarShown() &&
+                !isAnimationRunning() && !isDragging()) {
+            contentView.freeze();
+        }
+    }
+
+    /**
+     * Creates and returns a runnable, which executes all pending actions, which should be executed,
+     * once the sidebar has become hidden. The actions are only executed, if the sidebar is still
+     * hidden, when the runnable is run.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}
+     */
+    private Runnable createPendingActionsRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                if (!isSidebarShown() && !isAnimationRunning()) {
+                    executePendingActions();
                 }
             }
 
         };
     }
 
+    /**
+     * Executes all pending actions, which should be executed, once the sidebar has become hidden,
+     * in the order they have been added.
+     */
+    private void executePendingActions() {
+        List<Runnable> actions = new ArrayList<>(pendingActions);
+        pendingActions.clear();
+
+        for (Runnable action : actions) {
+            action.run();
+        }
+    }
+
+    /**
+     * Enqueues a notification, which should be delivered to the listeners after the current frame
+     * has been drawn. Notifications are delivered in the order they have been enqueued.
+     *
+     * @param show
+     *         True, if the listeners should be notified about the sidebar becoming shown, false,
+     *         if they should be notified about the sidebar becoming hidden
+     */
+    private void deferNotification(final boolean show) {
+        boolean dispatcherPosted = !pendingNotifications.isEmpty();
+        pendingNotifications.add(show);
+
+        if (!dispatcherPosted) {
+            post(notificationDispatcher);
+        }
+    }
+
+    /**
+     * Delivers all pending notifications to the listeners in the order they have been enqueued.
+     */
+    private void dispatchPendingNotifications() {
+        Boolean show;
+
+        while ((show = pendingNotifications.poll()) != null) {
+            if (show) {
+                notifyOnSidebarShown();
+            } else {
+                notifyOnSidebarHidden();
+            }
+        }
+    }
+
+    /**
+     * Creates and returns a runnable, which delivers the pending notifications to the listeners.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}
+     */
+    private Runnable createNotificationDispatcher() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                dispatchPendingNotifications();
+            }
+
+        };
+    }
+
     /**
      * Notifies all listeners, which have been registered to be notified, when the sidebar becomes
      * shown or hidden, about when the sidebar has become shown.
@@ -929,35 +1849,106 @@ public class Sidebar extends ViewGroup {
         }
     }
 
+    /**
+     * Notifies all listeners, which have been registered to be notified, when the sidebar starts
+     * or stops being dragged or animated, about a drag gesture having been started.
+     */
+    private void notifyOnDragStarted() {
+        for (SidebarTransitionListener listener : transitionListeners) {
+            listener.onDragStarted(this);
+        }
+    }
+
+    /**
+     * Notifies all listeners, which have been registered to be notified, when the sidebar starts
+     * or stops being dragged or animated, about a drag gesture having been ended.
+     */
+    private void notifyOnDragEnded() {
+        for (SidebarTransitionListener listener : transitionListeners) {
+            listener.onDragEnded(this);
+        }
+    }
+
+    /**
+     * Notifies all listeners, which have been registered to be notified, when the sidebar starts
+     * or stops being dragged or animated, about an animation having been started.
+     *
+     * @param show
+     *         True, if the animation shows the sidebar, false otherwise
+     */
+    private void notifyOnTransitionStarted(final boolean show) {
+        for (SidebarTransitionListener listener : transitionListeners) {
+            listener.onTransitionStarted(this, show);
+        }
+    }
+
+    /**
+     * Notifies all listeners, which have been registered to be notified, when the sidebar starts
+     * or stops being dragged or animated, about an animation having been ended.
+     *
+     * @param show
+     *         True, if the animation has shown the sidebar, false otherwise
+     */
+    private void notifyOnTransitionEnded(final boolean show) {
+        for (SidebarTransitionListener listener : transitionListeners) {
+            listener.onTransitionEnded(this, show);
+        }
+    }
+
     /**
      * Measures the sidebar's actual width in pixels, depending on the width of the parent view.
+     *
+     * @param width
+     *         The width of the parent view in pixels as an {@link Integer} value
      */
-    private void measureSidebarWidth() {
-        mSidebarWidth = Math.round(getWidth() * sidebarWidth);
+    private void measureSidebarWidth(final int width) {
+        mSidebarWidth = Math.round(width * sidebarWidth);
 
         if (maxSidebarWidth != -1) {
             mSidebarWidth = Math.min(maxSidebarWidth, mSidebarWidth);
         }
-
-        if (sidebarView != null) {
-            sidebarView.getLayoutParams().width = mSidebarWidth + sidebarView.getShadowWidth();
-        }
     }
 
     /**
      * Measures the sidebar's actual offset in pixels, depending on the width of the parent view.
+     *
+     * @param width
+     *         The width of the parent view in pixels as an {@link Integer} value
      */
-    private void measureSidebarOffset() {
-        mOffset = Math.round(getWidth() * sidebarOffset);
+    private void measureSidebarOffset(final int width) {
+        if (inactiveSidebarView != null) {
+            mOffset = 0;
+        } else {
+            mOffset = Math.round(width * sidebarOffset);
 
-        if (maxSidebarOffset != -1) {
-            mOffset = Math.min(maxSidebarOffset, mOffset);
+            if (maxSidebarOffset != -1) {
+                mOffset = Math.min(maxSidebarOffset, mOffset);
+            }
         }
 
-        mContentWidth = getWidth() - mOffset;
+        mContentWidth = width - mOffset;
+    }
 
-        if (contentView != null) {
-            contentView.getLayoutParams().width = mContentWidth;
+    /**
+     * Calculates and returns the width of the content in pixels, depending on the width of the
+     * parent view, whether the sidebar is currently shown and the current content mode. While the
+     * sidebar is dragged or animated, the width, which has been applied by the drag gesture or
+     * animation, is retained.
+     *
+     * @param width
+     *         The width of the parent view in pixels as an {@link Integer} value
+     * @return The width of the content in pixels as an {@link Integer} value
+     */
+    private int calculateContentWidth(final int width) {
+        if (isDragging() || isAnimationRunning()) {
+            int currentWidth = contentView.getLayoutParams().width;
+            return currentWidth >= 0 ? currentWidth : contentView.getWidth();
+        } else if (getEffectiveContentMode() == ContentMode.SCROLL) {
+            return mContentWidth;
+        } else if (isSidebarShown()) {
+            return width - mSidebarWidth;
+        } else {
+            return width - mOffset;
         }
     }
 
@@ -972,7 +1963,7 @@ public class Sidebar extends ViewGroup {
     private float calculateAnimationDistance(final boolean show) {
         float distance;
 
-        if (getLocation() == Location.LEFT) {
+        if (getActiveLocation() == Location.LEFT) {
             if (show) {
                 distance = mSidebarWidth + sidebarView.getShadowWidth() - sidebarView.getRight();
             } else {
@@ -990,9 +1981,20 @@ public class Sidebar extends ViewGroup {
         return distance;
     }
 
+    /**
+     * Calculates the speed of the animation, which is used to hide or show the sidebar, in pixels
+     * per millisecond, depending on the display's current density.
+     *
+     * @return The speed of the animation in pixels per millisecond as a {@link Float} value
+     */
+    private float calculateAnimationSpeedInPixels() {
+        return animationSpeed * metrics.getDensity();
+    }
+
     /**
      * Calculates the duration of the animation, which is used to hide or show the sidebar,
-     * depending on a specific distance and speed.
+     * depending on a specific distance and speed. The duration is rounded to a whole number of
+     * frames of the display, in order to let the animation end on a vsync.
      *
      * @param distance
      *         The distance, the sidebar has to be moved by, as a {@link Float} value
@@ -1001,7 +2003,15 @@ public class Sidebar extends ViewGroup {
      * @return The duration of the animation in milliseconds as an {@link Integer} value
      */
     private int calculateAnimationDuration(final float distance, final float animationSpeed) {
-        return Math.round(Math.abs(distance) / animationSpeed);
+        float duration = Math.abs(distance) / animationSpeed;
+
+        if (duration > 0) {
+            float frameInterval = metrics.getFrameInterval();
+            int frames = Math.max(1, Math.round(duration / frameInterval));
+            return Math.round(frames * frameInterval);
+        }
+
+        return 0;
     }
 
     /**
@@ -1028,7 +2038,7 @@ public class Sidebar extends ViewGroup {
         int leftEdge;
         int rightEdge;
 
-        if (getLocation() == Location.LEFT) {
+        if (getActiveLocation() == Location.LEFT) {
             if (shown) {
                 leftEdge = 0;
             } else {
@@ -1046,6 +2056,20 @@ public class Sidebar extends ViewGroup {
         return new Pair<>(leftEdge, rightEdge);
     }
 
+    /**
+     * Calculates and returns the position of the left and right edge of the inactive sidebar,
+     * which is always hidden and does not use an offset.
+     *
+     * @return The position of the inactive sidebar's left and right edge as an instance of the
+     * class {@link Pair}
+     */
+    private Pair<Integer, Integer> calculateInactiveSidebarConstraints() {
+        int shadowWidth = inactiveSidebarView.getShadowWidth();
+        int leftEdge = getActiveLocation() == Location.LEFT ? getWidth() - shadowWidth :
+                -mSidebarWidth;
+        return new Pair<>(leftEdge, leftEdge + mSidebarWidth + shadowWidth);
+    }
+
     /**
      * Calculates and returns the position of the content's left and right edge, depending on the
      * sidebar's location, whether the sidebar is currently shown and the current content mode.
@@ -1054,7 +2078,7 @@ public class Sidebar extends ViewGroup {
      * Pair}
      */
     private Pair<Integer, Integer> calculateContentConstraints() {
-        if (getContentMode() == ContentMode.SCROLL) {
+        if (getEffectiveContentMode() == ContentMode.SCROLL) {
             return calculateScrolledContentConstraints();
         } else {
             return calculateResizedContentConstraints();
@@ -1073,7 +2097,7 @@ public class Sidebar extends ViewGroup {
         int leftEdge;
         int rightEdge;
 
-        if (getLocation() == Location.LEFT) {
+        if (getActiveLocation() == Location.LEFT) {
             if (isSidebarShown()) {
                 leftEdge = mOffset + Math.round((mSidebarWidth - mOffset) * scrollRatio);
             } else {
@@ -1103,7 +2127,7 @@ public class Sidebar extends ViewGroup {
         int leftEdge;
         int rightEdge;
 
-        if (getLocation() == Location.LEFT) {
+        if (getActiveLocation() == Location.LEFT) {
             rightEdge = getWidth();
 
             if (isSidebarShown()) {
@@ -1137,7 +2161,7 @@ public class Sidebar extends ViewGroup {
 
         float leftEdge = calculateSidebarConstraints().first + dragHelper.getDragDistance();
 
-        if (getLocation() == Location.LEFT) {
+        if (getActiveLocation() == Location.LEFT) {
             leftEdge = Math.max(hiddenSidebarConstraints.first, leftEdge);
             leftEdge = Math.min(shownSidebarConstraints.first, leftEdge);
         } else {
@@ -1161,7 +2185,7 @@ public class Sidebar extends ViewGroup {
      */
     private Pair<Float, Float> calculateContentConstraintsWhileDragging(
             final Pair<Float, Float> sidebarConstraints) {
-        if (getContentMode() == ContentMode.SCROLL) {
+        if (getEffectiveContentMode() == ContentMode.SCROLL) {
             return calculateScrolledContentConstraintsWhileDragging(sidebarConstraints);
         } else {
             return calculateResizedContentConstraintsWhileDragging(sidebarConstraints);
@@ -1184,7 +2208,7 @@ public class Sidebar extends ViewGroup {
         float leftEdge;
         float rightEdge;
 
-        if (getLocation() == Location.LEFT) {
+        if (getActiveLocation() == Location.LEFT) {
             leftEdge = mOffset + Math.round(
                     (sidebarConstraints.second - sidebarView.getShadowWidth() - mOffset) *
                             scrollRatio);
@@ -1214,7 +2238,7 @@ public class Sidebar extends ViewGroup {
         float leftEdge;
         float rightEdge;
 
-        if (getLocation() == Location.LEFT) {
+        if (getActiveLocation() == Location.LEFT) {
             leftEdge = sidebarConstraints.second - sidebarView.getShadowWidth();
             rightEdge = getWidth();
         } else {
@@ -1236,23 +2260,15 @@ public class Sidebar extends ViewGroup {
         if (!isAnimationRunning()) {
             dragHelper.update(dragPosition);
 
-            if (dragHelper.hasThresholdBeenReached() &&
-                    isDraggingAllowed(dragHelper.getDragStartPosition())) {
-                Pair<Float, Float> sidebarPos = calculateSidebarConstraintsWhileDragging();
-                Pair<Float, Float> contentPos =
-                        calculateContentConstraintsWhileDragging(sidebarPos);
-                sidebarView.layout(Math.round(sidebarPos.first), sidebarView.getTop(),
-                        Math.round(sidebarPos.second), sidebarView.getBottom());
-                contentView.setOverlayTransparency(calculateContentOverlayTransparency());
-                contentView.getLayoutParams().width =
-                        Math.round(contentPos.second - contentPos.first);
-                contentView.layout(Math.round(contentPos.first), contentView.getTop(),
-                        Math.round(contentPos.second), contentView.getBottom());
-
-                if (getContentMode() == ContentMode.RESIZE) {
-                    contentView.requestLayout();
+            if (dragHelper.hasThresholdBeenReached() && draggingAllowed) {
+                if (!dragStarted) {
+                    dragStarted = true;
+                    contentView.unfreeze();
+                    notifyOnDragStarted();
                 }
 
+                layoutAtSidebarPosition(calculateSidebarConstraintsWhileDragging(),
+                        sidebarView.getTop(), sidebarView.getBottom());
                 return true;
             }
         }
@@ -1260,31 +2276,137 @@ public class Sidebar extends ViewGroup {
         return false;
     }
 
+    /**
+     * Lays out the sidebar and the content, depending on a specific position of the sidebar, which
+     * lies between the positions, the sidebar has when it is shown and hidden.
+     *
+     * @param sidebarPos
+     *         The position of the sidebar's left and right edge as an instance of the class {@link
+     *         Pair}. The position may not be null
+     * @param top
+     *         The position of the top edge of the sidebar and the content as an {@link Integer}
+     *         value
+     * @param bottom
+     *         The position of the bottom edge of the sidebar and the content as an {@link Integer}
+     *         value
+     */
+    private void layoutAtSidebarPosition(@NonNull final Pair<Float, Float> sidebarPos,
+                                         final int top, final int bottom) {
+        Pair<Float, Float> contentPos = calculateContentConstraintsWhileDragging(sidebarPos);
+        sidebarView.layout(Math.round(sidebarPos.first), top, Math.round(sidebarPos.second),
+                bottom);
+        contentView.setOverlayTransparency(calculateContentOverlayTransparency());
+        int contentLeft = Math.round(contentPos.first);
+        int contentRight = Math.round(contentPos.second);
+        int contentWidth = contentRight - contentLeft;
+        contentView.getLayoutParams().width = contentWidth;
+
+        if (contentView.getMeasuredWidth() != contentWidth) {
+            contentView.measure(MeasureSpec.makeMeasureSpec(contentWidth, MeasureSpec.EXACTLY),
+                    MeasureSpec.makeMeasureSpec(contentView.getMeasuredHeight(),
+                            MeasureSpec.EXACTLY));
+        }
+
+        contentView.layout(contentLeft, top, contentRight, bottom);
+    }
+
+    /**
+     * Calculates and returns the current progress of the sidebar's transition between being hidden
+     * and shown. If an animation is currently running, its current position is taken into
+     * account.
+     *
+     * @return The progress as a {@link Float} value between 0 and 1. If the progress is 0, the
+     * sidebar is hidden, if it is 1, the sidebar is shown
+     */
+    private float calculateTransitionProgress() {
+        float hiddenLeft = calculateSidebarConstraints(false).first;
+        float shownLeft = calculateSidebarConstraints(true).first;
+
+        if (hiddenLeft == shownLeft) {
+            return isSidebarShown() ? 1 : 0;
+        }
+
+        float left = sidebarView.getLeft();
+        Animation animation = sidebarView.getAnimation();
+
+        if (animation != null && animation.getStartTime() != Animation.START_ON_FIRST_FRAME &&
+                animation.getDuration() > 0) {
+            float time = (AnimationUtils.currentAnimationTimeMillis() - animation.getStartTime()) /
+                    (float) animation.getDuration();
+            time = Math.max(0, Math.min(1, time));
+            left += animation.getInterpolator().getInterpolation(time) * animationDistance;
+        }
+
+        float progress = (left - hiddenLeft) / (shownLeft - hiddenLeft);
+        return Math.max(0, Math.min(1, progress));
+    }
+
+    /**
+     * Resumes a transition, which has been interrupted by saving the sidebar's state, by laying
+     * out the sidebar at the position, the transition has been interrupted at, and animating it to
+     * its final position from there.
+     *
+     * @param top
+     *         The position of the top edge of the sidebars and the content as an {@link Integer}
+     *         value
+     * @param bottom
+     *         The position of the bottom edge of the sidebars and the content as an {@link
+     *         Integer} value
+     */
+    private void resumeTransition(final int top, final int bottom) {
+        float progress = resumedTransitionProgress;
+        resumedTransitionProgress = -1;
+        float hiddenLeft = calculateSidebarConstraints(false).first;
+        float shownLeft = calculateSidebarConstraints(true).first;
+        float leftEdge = hiddenLeft + progress * (shownLeft - hiddenLeft);
+        float rightEdge = leftEdge + mSidebarWidth + sidebarView.getShadowWidth();
+        layoutAtSidebarPosition(new Pair<>(leftEdge, rightEdge), top, bottom);
+
+        if (inactiveSidebarView != null) {
+            Pair<Integer, Integer> inactiveSidebarPos = calculateInactiveSidebarConstraints();
+            inactiveSidebarView.layout(inactiveSidebarPos.first, top, inactiveSidebarPos.second,
+                    bottom);
+        }
+
+        if (resumedTransitionShow) {
+            animateShowSidebar(calculateAnimationDistance(true), new DecelerateInterpolator());
+        } else {
+            animateHideSidebar(calculateAnimationDistance(false), new DecelerateInterpolator());
+        }
+    }
+
+    /**
+     * Returns, whether the sidebar should be shown, if the current drag gesture is released, or
+     * not.
+     *
+     * @return True, if the sidebar should be shown, if the current drag gesture is released, false
+     * otherwise
+     */
+    private boolean isShownOnRelease() {
+        float thresholdPosition = calculatePositionWhereDragThresholdIsReached();
+
+        if (getActiveLocation() == Location.LEFT) {
+            return sidebarView.getRight() - sidebarView.getShadowWidth() > thresholdPosition;
+        } else {
+            return sidebarView.getLeft() + sidebarView.getShadowWidth() < thresholdPosition;
+        }
+    }
+
     /**
      * Handles when a drag gesture has been ended by the user.
      */
     private void handleRelease() {
         dragHelper.reset();
+        endDrag();
 
-        float thresholdPosition = calculatePositionWhereDragThresholdIsReached();
-        float speed = Math.max(dragHelper.getDragSpeed(), animationSpeed);
+        float speed = Math.max(dragHelper.getDragSpeed(), calculateAnimationSpeedInPixels());
 
-        if (getLocation() == Location.LEFT) {
-            if (sidebarView.getRight() - sidebarView.getShadowWidth() > thresholdPosition) {
-                animateShowSidebar(calculateAnimationDistance(true), speed,
-                        new DecelerateInterpolator());
-            } else {
-                animateHideSidebar(calculateAnimationDistance(false), speed,
-                        new DecelerateInterpolator());
-            }
+        if (isShownOnRelease()) {
+            animateShowSidebar(calculateAnimationDistance(true), speed,
+                    new DecelerateInterpolator());
         } else {
-            if (sidebarView.getLeft() + sidebarView.getShadowWidth() < thresholdPosition) {
-                animateShowSidebar(calculateAnimationDistance(true), speed,
-                        new DecelerateInterpolator());
-            } else {
-                animateHideSidebar(calculateAnimationDistance(false), speed,
-                        new DecelerateInterpolator());
-            }
+            animateHideSidebar(calculateAnimationDistance(false), speed,
+                    new DecelerateInterpolator());
         }
     }
 
@@ -1296,6 +2418,7 @@ public class Sidebar extends ViewGroup {
      */
     private void handleClick(final float clickPosition) {
         dragHelper.reset();
+        endDrag();
 
         if (isSidebarClicked(clickPosition)) {
             if (showOnSidebarClick) {
@@ -1308,6 +2431,163 @@ public class Sidebar extends ViewGroup {
         }
     }
 
+    /**
+     * Handles when a touch gesture has been started by the user.
+     *
+     * @param event
+     *         The motion event, which has started the touch gesture, as an instance of the class
+     *         {@link MotionEvent}. The motion event may not be null
+     */
+    private void handleTouchDown(@NonNull final MotionEvent event) {
+        touchDownX = event.getX();
+        touchDownY = event.getY();
+        draggingAllowed = isDraggingAllowed(touchDownX, touchDownY);
+        beingDragged = false;
+        gestureRejected = false;
+        dragHelper.reset();
+        dragHelper.update(touchDownX);
+    }
+
+    /**
+     * Handles when the position of a touch gesture has been changed by the user. Once the gesture
+     * has moved horizontally by more than the touch slop, it is recognized as a drag gesture, if
+     * dragging is allowed at the position, the gesture has been started at, and if none of the
+     * touched child views is able to scroll in the direction of the gesture. If the gesture moves
+     * vertically first, or if it is consumed by a child view, it is ruled out as a drag gesture for
+     * the rest of its duration. Gestures, which are started at the edge, when using the drag mode
+     * <code>DragMode.EDGE</code>, take precedence over scrollable child views.
+     *
+     * @param event
+     *         The motion event, which has changed the position of the touch gesture, as an instance
+     *         of the class {@link MotionEvent}. The motion event may not be null
+     * @return True, if the touch gesture has been recognized as a drag gesture, false otherwise
+     */
+    private boolean handleTouchMove(@NonNull final MotionEvent event) {
+        if (!beingDragged && !gestureRejected) {
+            float deltaX = Math.abs(event.getX() - touchDownX);
+            float deltaY = Math.abs(event.getY() - touchDownY);
+
+            int touchSlop = metrics.getTouchSlop();
+
+            if (deltaX > touchSlop && deltaX > deltaY) {
+                if (inactiveSidebarView != null && !isSidebarShown() && activateSide(
+                        event.getX() > touchDownX ? Location.LEFT : Location.RIGHT)) {
+                    draggingAllowed = isDraggingAllowed(touchDownX, touchDownY);
+                }
+
+                if (!isAnimationRunning() && draggingAllowed &&
+                        (getCurrentDragMode() == DragMode.EDGE ||
+                                !canScrollHorizontally(this, false, event.getX() - touchDownX,
+                                        Math.round(touchDownX), Math.round(touchDownY)))) {
+                    beingDragged = true;
+                    contentView.prepareOverlay();
+                    ViewParent parent = getParent();
+
+                    if (parent != null) {
+                        parent.requestDisallowInterceptTouchEvent(true);
+                    }
+                } else {
+                    gestureRejected = true;
+                }
+            } else if (deltaY > touchSlop) {
+                gestureRejected = true;
+            }
+        }
+
+        if (beingDragged) {
+            handleDrag(event.getX());
+        }
+
+        return beingDragged;
+    }
+
+    /**
+     * Returns, whether a specific view, or one of its descendants, which are located at a specific
+     * position, is able to scroll horizontally in the direction of a drag gesture, or not.
+     *
+     * @param view
+     *         The view, which should be checked, as an instance of the class {@link View}. The view
+     *         may not be null
+     * @param checkView
+     *         True, if the given view itself should be checked, false, if only its descendants
+     *         should be checked
+     * @param dragDistance
+     *         The horizontal distance of the drag gesture as a {@link Float} value. If the distance
+     *         is negative, the gesture moves to the left, if it is positive, it moves to the right
+     * @param x
+     *         The horizontal position of the drag gesture, relative to the given view, as an {@link
+     *         Integer} value
+     * @param y
+     *         The vertical position of the drag gesture, relative to the given view, as an {@link
+     *         Integer} value
+     * @return True, if the view, or one of its descendants, is able to scroll in the direction of
+     * the drag gesture, false otherwise
+     */
+    private boolean canScrollHorizontally(@NonNull final View view, final boolean checkView,
+                                          final float dragDistance, final int x, final int y) {
+        if (view instanceof ViewGroup) {
+            ViewGroup viewGroup = (ViewGroup) view;
+            int scrolledX = x + view.getScrollX();
+            int scrolledY = y + view.getScrollY();
+
+            for (int i = viewGroup.getChildCount() - 1; i >= 0; i--) {
+                View child = viewGroup.getChildAt(i);
+
+                if (child.getVisibility() == View.VISIBLE && scrolledX >= child.getLeft() &&
+                        scrolledX < child.getRight() && scrolledY >= child.getTop() &&
+                        scrolledY < child.getBottom() &&
+                        canScrollHorizontally(child, true, dragDistance,
+                                scrolledX - child.getLeft(), scrolledY - child.getTop())) {
+                    return true;
+                }
+            }
+        }
+
+        return checkView && view.canScrollHorizontally(dragDistance > 0 ? -1 : 1);
+    }
+
+    /**
+     * Handles when a touch gesture, which has been passed to the sidebar's children, has been
+     * ended.
+     */
+    private void handleTouchEnd() {
+        draggingAllowed = false;
+        beingDragged = false;
+        gestureRejected = false;
+        dragHelper.reset();
+        endDrag();
+    }
+
+    /**
+     * Notifies the listeners about the current drag gesture having been ended, if they have been
+     * notified about it having been started before.
+     */
+    private void endDrag() {
+        if (dragStarted) {
+            dragStarted = false;
+            notifyOnDragEnded();
+        }
+    }
+
+    /**
+     * Returns, whether a touch gesture, which has been started at a specific position, should be
+     * handled as a click by the sidebar itself, instead of being passed to its children, or not.
+     *
+     * @param clickPosition
+     *         The horizontal position, the touch gesture has been started at, as a {@link Float}
+     *         value
+     * @return True, if the touch gesture should be handled by the sidebar, false otherwise
+     */
+    private boolean isClickHandledBySidebar(final float clickPosition) {
+        boolean sidebarClicked = isSidebarClicked(clickPosition);
+
+        if (isSidebarShown()) {
+            return !sidebarClicked && isHiddenOnContentClick();
+        } else {
+            return sidebarClicked && isShownOnSidebarClick();
+        }
+    }
+
     /**
      * Returns, whether a click at a specific position targets the content, or not.
      *
@@ -1327,18 +2607,10 @@ public class Sidebar extends ViewGroup {
      * @return True, if the sidebar has been clicked, false otherwise
      */
     private boolean isSidebarClicked(final float clickPosition) {
-        if (getLocation() == Location.LEFT) {
-            if (isSidebarShown()) {
-                return clickPosition < mSidebarWidth;
-            } else {
-                return clickPosition < mOffset;
-            }
+        if (getActiveLocation() == Location.LEFT) {
+            return clickPosition < sidebarHitRect.right;
         } else {
-            if (isSidebarShown()) {
-                return clickPosition > getWidth() - mSidebarWidth;
-            } else {
-                return clickPosition > mContentWidth;
-            }
+            return clickPosition > sidebarHitRect.left;
         }
     }
 
@@ -1346,20 +2618,93 @@ public class Sidebar extends ViewGroup {
      * Returns, whether a click at a specific position targets the edge of the sidebar's parent
      * view, or not.
      *
-     * @param clickPosition
+     * @param x
      *         The horizontal position of the click as a {@link Float} value
+     * @param y
+     *         The vertical position of the click as a {@link Float} value
      * @return True, if the edge of the sidebar's parent view has been clicked, false otherwise
      */
-    private boolean isEdgeClicked(final float clickPosition) {
-        int tolerance = dpToPixels(getContext(), EDGE_DRAGGING_TOLERANCE);
+    private boolean isEdgeClicked(final float x, final float y) {
+        if (y < edgeHitRect.top || y >= edgeHitRect.bottom) {
+            return false;
+        } else if (getActiveLocation() == Location.LEFT) {
+            return x <= edgeHitRect.right;
+        } else {
+            return x >= edgeHitRect.left;
+        }
+    }
+
+    /**
+     * Updates the regions of the sidebar and of the parent view's edge, which are used to handle
+     * touch events, depending on the sidebar's location and whether it is currently shown or
+     * hidden. If supported by the platform, the region at the edge is also excluded from the
+     * system's gesture navigation, while drag gestures are recognized there.
+     */
+    private void updateHitRects() {
+        int width = getWidth();
+        int height = getHeight();
+
+        if (getActiveLocation() == Location.LEFT) {
+            sidebarHitRect.set(0, 0, isSidebarShown() ? mSidebarWidth : mOffset, height);
+            edgeHitRect.set(0, edgeMarginTop, edgeWidth, height - edgeMarginBottom);
+        } else {
+            sidebarHitRect
+                    .set(isSidebarShown() ? width - mSidebarWidth : mContentWidth, 0, width, height);
+            edgeHitRect.set(width - edgeWidth, edgeMarginTop, width, height - edgeMarginBottom);
+        }
 
-        if (getLocation() == Location.LEFT) {
-            return clickPosition <= tolerance;
+        if (inactiveSidebarView != null) {
+            mirroredEdgeHitRect.set(width - edgeHitRect.right, edgeHitRect.top,
+                    width - edgeHitRect.left, edgeHitRect.bottom);
         } else {
-            return clickPosition >= getWidth() - tolerance;
+            mirroredEdgeHitRect.setEmpty();
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            updateSystemGestureExclusionRects();
+        }
+    }
+
+    /**
+     * Excludes the region at the edge of the parent view from the system's gesture navigation,
+     * while drag gestures are recognized there, or removes a previously excluded region, if drag
+     * gestures are not recognized at the edge anymore. The system is only notified, if the
+     * excluded region has changed.
+     */
+    @TargetApi(Build.VERSION_CODES.Q)
+    private void updateSystemGestureExclusionRects() {
+        boolean exclude = !isSidebarShown() && dragModeWhenHidden == DragMode.EDGE &&
+                !edgeHitRect.isEmpty();
+
+        if (exclude && (!gestureExclusionRect.equals(edgeHitRect) ||
+                !mirroredGestureExclusionRect.equals(mirroredEdgeHitRect))) {
+            gestureExclusionRect.set(edgeHitRect);
+            mirroredGestureExclusionRect.set(mirroredEdgeHitRect);
+            gestureExclusionRects.clear();
+            gestureExclusionRects.add(gestureExclusionRect);
+
+            if (!mirroredGestureExclusionRect.isEmpty()) {
+                gestureExclusionRects.add(mirroredGestureExclusionRect);
+            }
+
+            setSystemGestureExclusionRects(gestureExclusionRects);
+        } else if (!exclude && !gestureExclusionRect.isEmpty()) {
+            gestureExclusionRect.setEmpty();
+            mirroredGestureExclusionRect.setEmpty();
+            setSystemGestureExclusionRects(Collections.<Rect>emptyList());
         }
     }
 
+    /**
+     * Returns the drag mode, which currently applies, depending on whether the sidebar is shown or
+     * hidden.
+     *
+     * @return The drag mode, which currently applies, as a value of the enum {@link DragMode}
+     */
+    private DragMode getCurrentDragMode() {
+        return isSidebarShown() ? dragModeWhenShown : dragModeWhenHidden;
+    }
+
     /**
      * Returns, whether a drag gesture, which has been started at a specific position, is allowed,
      * depending on the used drag modes, or not.
@@ -1367,14 +2712,14 @@ public class Sidebar extends ViewGroup {
      * @param dragStartPosition
      *         The horizontal position, the drag gesture has been started at, as a {@link Float}
      *         value
+     * @param dragStartPositionY
+     *         The vertical position, the drag gesture has been started at, as a {@link Float}
+     *         value
      * @return True, if the drag gesture is allowed, false otherwise
      */
-    private boolean isDraggingAllowed(final float dragStartPosition) {
-        DragMode currentDragMode = dragModeWhenHidden;
-
-        if (isSidebarShown()) {
-            currentDragMode = dragModeWhenShown;
-        }
+    @VisibleForTesting
+    boolean isDraggingAllowed(final float dragStartPosition, final float dragStartPositionY) {
+        DragMode currentDragMode = getCurrentDragMode();
 
         if (currentDragMode == DragMode.DISABLED) {
             return false;
@@ -1383,12 +2728,68 @@ public class Sidebar extends ViewGroup {
         } else if (currentDragMode == DragMode.CONTENT_ONLY) {
             return isContentClicked(dragStartPosition);
         } else if (currentDragMode == DragMode.EDGE) {
-            return isEdgeClicked(dragStartPosition);
+            return isEdgeClicked(dragStartPosition, dragStartPositionY);
         }
 
         return true;
     }
 
+    /**
+     * Returns, whether a sidebar is currently located completely outside of the visible area, or
+     * not. While an animation is running, the sidebar is never considered to be outside of the
+     * visible area, because its actual position may differ from its layout position.
+     *
+     * @param sidebarView
+     *         The view, which contains the sidebar, as an instance of the class {@link
+     *         SidebarView}. The view may not be null
+     * @return True, if the sidebar is currently located completely outside of the visible area,
+     * false otherwise
+     */
+    private boolean isSidebarOutsideOfVisibleArea(@NonNull final SidebarView sidebarView) {
+        return !isAnimationRunning() &&
+                (sidebarView.getRight() <= 0 || sidebarView.getLeft() >= getWidth());
+    }
+
+    /**
+     * Draws the content, clipped to the area, which is not occluded by the sidebar, if the sidebar
+     * is opaque. This prevents the part of the content, which is covered by the sidebar, from being
+     * drawn needlessly.
+     *
+     * @param canvas
+     *         The canvas, the content should be drawn on, as an instance of the class {@link
+     *         Canvas}. The canvas may not be null
+     * @param drawingTime
+     *         The time at which the drawing occurs as a {@link Long} value
+     * @return True, if an invalidate has been issued, false otherwise
+     */
+    private boolean drawContentView(@NonNull final Canvas canvas, final long drawingTime) {
+        if (sidebarView != null && contentView.getAnimation() == null && !isAnimationRunning() &&
+                sidebarView.isSidebarOpaque()) {
+            View view = sidebarView.getSidebarView();
+            int clipLeft = 0;
+            int clipRight = getWidth();
+
+            if (getActiveLocation() == Location.LEFT) {
+                clipLeft = Math.max(0, sidebarView.getLeft() + view.getRight());
+            } else {
+                clipRight = Math.min(getWidth(), sidebarView.getLeft() + view.getLeft());
+            }
+
+            if (clipLeft > 0 || clipRight < getWidth()) {
+                int saveCount = canvas.save();
+
+                try {
+                    canvas.clipRect(clipLeft, 0, clipRight, getHeight());
+                    return super.drawChild(canvas, contentView, drawingTime);
+                } finally {
+                    canvas.restoreToCount(saveCount);
+                }
+            }
+        }
+
+        return super.drawChild(canvas, contentView, drawingTime);
+    }
+
     /**
      * Calculates the position, where the drag threshold is reached, depending on whether the
      * sidebar's location and whether it is currently shown or hidden.
@@ -1399,7 +2800,7 @@ public class Sidebar extends ViewGroup {
     private float calculatePositionWhereDragThresholdIsReached() {
         float position;
 
-        if (getLocation() == Location.LEFT) {
+        if (getActiveLocation() == Location.LEFT) {
             if (isSidebarShown()) {
                 position = mSidebarWidth - ((mSidebarWidth - mOffset) * dragThreshold);
             } else {
@@ -1441,9 +2842,107 @@ public class Sidebar extends ViewGroup {
     private float calculateContentOverlayTransparency() {
         float totalDistance = mSidebarWidth - mOffset;
         float distance = Math.abs(calculateAnimationDistance(false));
+
+        if (effectiveRenderingProfile == RenderingProfile.LITE) {
+            return distance > 0 ? 1 - getContentOverlayTransparency() : 0;
+        }
+
         return (1 - getContentOverlayTransparency()) * (distance / totalDistance);
     }
 
+    /**
+     * Returns the content mode, which is actually used. When using the rendering profile
+     * <code>LITE</code>, the content is always moved instead of being resized.
+     *
+     * @return The content mode, which is actually used, as a value of the enum {@link
+     * ContentMode}
+     */
+    private ContentMode getEffectiveContentMode() {
+        return effectiveRenderingProfile == RenderingProfile.LITE ? ContentMode.SCROLL :
+                contentMode;
+    }
+
+    /**
+     * Returns the elevation of the sidebar, which is actually used. When using the rendering
+     * profile <code>LITE</code>, no shadow is drawn.
+     *
+     * @return The elevation of the sidebar, which is actually used, in dp as an {@link Integer}
+     * value
+     */
+    private int getEffectiveSidebarElevation() {
+        return effectiveRenderingProfile == RenderingProfile.LITE ? 0 : sidebarElevation;
+    }
+
+    /**
+     * Returns, whether cheap visual effects should be preferred, because the device is a low RAM
+     * device, the battery saver is enabled or animations are disabled, or not.
+     *
+     * @return True, if cheap visual effects should be preferred, false otherwise
+     */
+    private boolean isCheapRenderingPreferred() {
+        Context context = getContext();
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            ActivityManager activityManager =
+                    (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+
+            if (activityManager != null && activityManager.isLowRamDevice()) {
+                return true;
+            }
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            PowerManager powerManager =
+                    (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+
+            if (powerManager != null && powerManager.isPowerSaveMode()) {
+                return true;
+            }
+        }
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            float animatorDurationScale = Settings.Global.getFloat(context.getContentResolver(),
+                    Settings.Global.ANIMATOR_DURATION_SCALE, 1);
+            return animatorDurationScale == 0;
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines the rendering profile, which is actually used, depending on the rendering
+     * profile, which has been set, and the device's state, which is only queried again after the
+     * sidebar has been attached to a window or the configuration has changed. If the rendering
+     * profile has changed, the views are updated accordingly.
+     */
+    private void updateEffectiveRenderingProfile() {
+        RenderingProfile profile = renderingProfile;
+
+        if (profile == RenderingProfile.AUTOMATIC) {
+            if (!cheapRenderingPreferenceDetermined) {
+                cheapRenderingPreferred = isCheapRenderingPreferred();
+                cheapRenderingPreferenceDetermined = true;
+            }
+
+            profile = cheapRenderingPreferred ? RenderingProfile.LITE : RenderingProfile.FULL;
+        }
+
+        if (profile != effectiveRenderingProfile) {
+            effectiveRenderingProfile = profile;
+
+            if (sidebarView != null) {
+                sidebarView.setSidebarElevation(getEffectiveSidebarElevation());
+            }
+
+            if (inactiveSidebarView != null) {
+                inactiveSidebarView.setSidebarElevation(getEffectiveSidebarElevation());
+            }
+
+            measureSidebarWidth(getWidth());
+            requestLayout();
+        }
+    }
+
     /**
      * Creates a new custom view, which allows to show a sidebar, which overlaps the view's main
      * content and can be shown or hidden in an animated manner.
@@ -1524,6 +3023,114 @@ public class Sidebar extends ViewGroup {
         initialize(attributeSet);
     }
 
+    /**
+     * Creates a new custom view, which allows to show a sidebar, which overlaps the view's main
+     * content and can be shown or hidden in an animated manner. Instead of obtaining its attributes
+     * from the theme, the sidebar uses a specific configuration, which may be shared between
+     * multiple sidebars. This is recommended, if sidebars are created in large numbers, e.g. for
+     * the rows of a list.
+     *
+     * @param context
+     *         The context, the sidebar should belong to, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param configuration
+     *         The configuration, which should be applied, as an instance of the class {@link
+     *         SidebarConfiguration}. The configuration may not be null
+     */
+    public Sidebar(@NonNull final Context context,
+                   @NonNull final SidebarConfiguration configuration) {
+        super(context);
+        initialize(configuration);
+    }
+
+    /**
+     * Applies all values of a specific configuration to the sidebar. As the configuration has
+     * been validated, when it was created, the values are assigned at once, regardless of the
+     * sidebar's current values, and a layout is requested only once. If a secondary sidebar is
+     * used, the primary sidebar becomes active.
+     *
+     * @param configuration
+     *         The configuration, which should be applied, as an instance of the class {@link
+     *         SidebarConfiguration}. The configuration may not be null
+     */
+    public final void applyConfiguration(@NonNull final SidebarConfiguration configuration) {
+        Condition.INSTANCE.ensureNotNull(configuration, "The configuration may not be null");
+        Location previousLocation = location;
+        int previousElevation = sidebarElevation;
+
+        if (secondarySidebarActive) {
+            switchSides();
+        }
+
+        location = configuration.getLocation();
+        retainViews = configuration.areViewsRetained();
+        animationSpeed = configuration.getAnimationSpeed();
+        sidebarWidth = configuration.getSidebarWidth();
+        maxSidebarWidth = configuration.getMaxSidebarWidth() != -1 ?
+                dpToPixels(getContext(), configuration.getMaxSidebarWidth()) : -1;
+        sidebarOffset = configuration.getSidebarOffset();
+        maxSidebarOffset = configuration.getMaxSidebarOffset() != -1 ?
+                dpToPixels(getContext(), configuration.getMaxSidebarOffset()) : -1;
+        contentMode = configuration.getContentMode();
+        renderingProfile = configuration.getRenderingProfile();
+        scrollRatio = configuration.getScrollRatio();
+        dragModeWhenHidden = configuration.getDragModeWhenHidden();
+        dragModeWhenShown = configuration.getDragModeWhenShown();
+        dragThreshold = configuration.getDragThreshold();
+        edgeWidth = dpToPixels(getContext(), configuration.getEdgeWidth());
+        edgeMarginTop = dpToPixels(getContext(), configuration.getEdgeMarginTop());
+        edgeMarginBottom = dpToPixels(getContext(), configuration.getEdgeMarginBottom());
+        hideOnBackButton = configuration.isHiddenOnBackButton();
+        hideOnContentClick = configuration.isHiddenOnContentClick();
+        showOnSidebarClick = configuration.isShownOnSidebarClick();
+        deferListenerNotifications = configuration.areListenerNotificationsDeferred();
+        freezeContentWhenShown = configuration.isContentFrozenWhenShown();
+        contentOverlayColor = configuration.getContentOverlayColor();
+        contentOverlayTransparency = configuration.getContentOverlayTransparency();
+        sidebarElevation = configuration.getSidebarElevation();
+        setDragSensitivity(configuration.getDragSensitivity());
+
+        if (configuration.getContentViewPoolSize() != contentViewPoolSize) {
+            setContentViewPoolSize(configuration.getContentViewPoolSize());
+        }
+
+        updateViewsAfterAssigningAttributes(previousLocation, previousElevation);
+    }
+
+    /**
+     * Resets the sidebar, in order to be able to reuse it, e.g. when it is contained by a row of a
+     * list, which is bound to other data. Any running animation or drag gesture is canceled,
+     * pending notifications are discarded and the sidebar is hidden immediately. If an animation
+     * is running, the transition listeners are notified exactly once about the transition having
+     * ended, while the listeners, which are notified when the sidebar becomes shown or hidden, are
+     * not notified at all. Afterwards, the actions, which have been passed to the method {@link
+     * #runWhenHidden(Runnable)}, are executed, as the sidebar is hidden.
+     */
+    public final void reset() {
+        boolean animationRunning = isAnimationRunning();
+        clearAnimationsSilently();
+
+        if (contentView != null) {
+            contentView.unfreeze();
+            contentView.setOverlayTransparency(0);
+        }
+
+        handleTouchEnd();
+        pendingNotifications.clear();
+        removeCallbacks(notificationDispatcher);
+        shown = false;
+        updateHitRects();
+        requestLayout();
+
+        if (animationRunning) {
+            notifyOnTransitionEnded(false);
+        }
+
+        if (!pendingActions.isEmpty()) {
+            executePendingActions();
+        }
+    }
+
     /**
      * Returns, whether the sidebar is currently shown, or not.
      *
@@ -1547,6 +3154,23 @@ public class Sidebar extends ViewGroup {
         }
     }
 
+    /**
+     * Shows the sidebar, which is located at a specific side, if both sidebars are currently
+     * hidden. If no secondary sidebar is used, the given location must correspond to the location
+     * of the primary sidebar.
+     *
+     * @param location
+     *         The location of the sidebar, which should be shown, as a value of the enum {@link
+     *         Location}. The location may not be null
+     */
+    public final void showSidebar(@NonNull final Location location) {
+        Condition.INSTANCE.ensureNotNull(location, "The location may not be null");
+
+        if (activateSide(location)) {
+            showSidebar();
+        }
+    }
+
     /**
      * Hides the sidebar, if it is currently shown.
      */
@@ -1573,39 +3197,97 @@ public class Sidebar extends ViewGroup {
     }
 
     /**
-     * Returns the view, which is contained by the sidebar.
+     * Returns the view, which is contained by the sidebar.
+     *
+     * @return The view, which is contained by the sidebar, as an instance of the class {@link View}
+     * or null, if no sidebar view is set
+     */
+    public final View getSidebarView() {
+        SidebarView primarySidebarView = getPrimarySidebarContainer();
+
+        if (primarySidebarView != null) {
+            return primarySidebarView.getSidebarView();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Sets the view, which should be contained by the sidebar.
+     *
+     * @param sidebarViewId
+     *         The resource id of the view, which should be set, as an {@link Integer} value. The id
+     *         must be a valid resource id
+     */
+    public final void setSidebarView(@LayoutRes final int sidebarViewId) {
+        this.sidebarViewId = sidebarViewId;
+        inflateSidebarView(createInflater(sidebarViewId));
+    }
+
+    /**
+     * Sets the view, which should be contained by the sidebar.
+     *
+     * @param sidebarView
+     *         The view, which should be set, as an instance of the class {@link View}. The view may
+     *         not be null
+     */
+    public final void setSidebarView(@NonNull final View sidebarView) {
+        this.sidebarViewId = -1;
+        inflateSidebarView(InflaterFactory.createInflater(sidebarView));
+    }
+
+    /**
+     * Returns the view of the secondary sidebar, which is located at the opposite side of the
+     * primary sidebar.
      *
-     * @return The view, which is contained by the sidebar, as an instance of the class {@link View}
-     * or null, if no sidebar view is set
+     * @return The view of the secondary sidebar as an instance of the class {@link View} or null,
+     * if no secondary sidebar is used
      */
-    public final View getSidebarView() {
-        if (sidebarView != null) {
-            return sidebarView.getSidebarView();
+    public final View getSecondarySidebarView() {
+        SidebarView secondarySidebarView = getSecondarySidebarContainer();
+
+        if (secondarySidebarView != null) {
+            return secondarySidebarView.getSidebarView();
         } else {
             return null;
         }
     }
 
     /**
-     * Sets the view, which should be contained by the sidebar.
+     * Sets the view of the secondary sidebar, which is located at the opposite side of the primary
+     * sidebar. Both sidebars share the same content and configuration, but only one of them can be
+     * shown at a time. When both sidebars are hidden, the direction of a drag gesture decides,
+     * which one is moved. As both sidebars are hidden completely, the sidebar offset is not applied,
+     * while a secondary sidebar is used.
      *
      * @param sidebarViewId
      *         The resource id of the view, which should be set, as an {@link Integer} value. The id
      *         must be a valid resource id
      */
-    public final void setSidebarView(@LayoutRes final int sidebarViewId) {
-        inflateSidebarView(InflaterFactory.createInflater(sidebarViewId));
+    public final void setSecondarySidebarView(@LayoutRes final int sidebarViewId) {
+        inflateSecondarySidebarView(InflaterFactory.createInflater(sidebarViewId));
     }
 
     /**
-     * Sets the view, which should be contained by the sidebar.
+     * Sets the view of the secondary sidebar, which is located at the opposite side of the primary
+     * sidebar. Both sidebars share the same content and configuration, but only one of them can be
+     * shown at a time. When both sidebars are hidden, the direction of a drag gesture decides,
+     * which one is moved. As both sidebars are hidden completely, the sidebar offset is not applied,
+     * while a secondary sidebar is used.
      *
      * @param sidebarView
      *         The view, which should be set, as an instance of the class {@link View}. The view may
      *         not be null
      */
-    public final void setSidebarView(@NonNull final View sidebarView) {
-        inflateSidebarView(InflaterFactory.createInflater(sidebarView));
+    public final void setSecondarySidebarView(@NonNull final View sidebarView) {
+        inflateSecondarySidebarView(InflaterFactory.createInflater(sidebarView));
+    }
+
+    /**
+     * Removes the view of the secondary sidebar, if one is used.
+     */
+    public final void removeSecondarySidebarView() {
+        inflateSecondarySidebarView(null);
     }
 
     /**
@@ -1624,12 +3306,34 @@ public class Sidebar extends ViewGroup {
     /**
      * Sets the view, which should be used as the main content.
      *
+     * If the pool of content views is enabled, the view is retained, when it is replaced, and
+     * reused instead of being inflated again, when the same resource id is set later on.
+     *
      * @param contentViewId
      *         The resource id of the view, which should be set, as an {@link Integer} value. The id
      *         must be a valid resource id
      */
     public final void setContentView(@LayoutRes final int contentViewId) {
-        inflateContentView(InflaterFactory.createInflater(contentViewId));
+        setContentView(contentViewId, contentViewId);
+    }
+
+    /**
+     * Sets the view, which should be used as the main content. If the pool of content views is
+     * enabled, the view is retained, when it is replaced, and reused instead of being inflated
+     * again, when the same key is used later on.
+     *
+     * @param contentViewId
+     *         The resource id of the view, which should be set, as an {@link Integer} value. The id
+     *         must be a valid resource id
+     * @param key
+     *         The key, which identifies the view within the pool of content views, as an instance
+     *         of the class {@link Object}. The key may not be null
+     */
+    public final void setContentView(@LayoutRes final int contentViewId,
+                                     @NonNull final Object key) {
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+        this.contentViewId = contentViewId;
+        inflateContentView(createInflater(contentViewId), key);
     }
 
     /**
@@ -1640,7 +3344,99 @@ public class Sidebar extends ViewGroup {
      *         not be null
      */
     public final void setContentView(@NonNull final View contentView) {
-        inflateContentView(InflaterFactory.createInflater(contentView));
+        this.contentViewId = -1;
+        inflateContentView(InflaterFactory.createInflater(contentView), null);
+    }
+
+    /**
+     * Sets the view, which should be used as the main content, once the sidebar has become hidden.
+     * If the sidebar is currently shown or hiding, the view is inflated after the animation, which
+     * is used to hide the sidebar, has finished. This prevents the inflation and layout of the view
+     * from interfering with the animation. If the sidebar is already hidden, the view is set
+     * immediately. As long as the sidebar stays shown, the view is not set, unless the sidebar is
+     * reset.
+     *
+     * @param contentViewId
+     *         The resource id of the view, which should be set, as an {@link Integer} value. The id
+     *         must be a valid resource id
+     */
+    public final void setContentViewWhenHidden(@LayoutRes final int contentViewId) {
+        runWhenHidden(new Runnable() {
+
+            @Override
+            public void run() {
+                setContentView(contentViewId);
+            }
+
+        });
+    }
+
+    /**
+     * Executes a specific action, once the sidebar has become hidden. If the sidebar is currently
+     * shown or hiding, the action is executed after the frame, which finishes the animation, which
+     * is used to hide the sidebar. If the sidebar is already hidden, the action is executed
+     * immediately. Multiple actions are executed in the order they have been added. As long as
+     * the sidebar stays shown, the actions are kept pending. When the sidebar is reset using the
+     * method {@link #reset()}, pending actions are executed, as the sidebar becomes hidden.
+     *
+     * @param action
+     *         The action, which should be executed, as an instance of the type {@link Runnable}.
+     *         The action may not be null
+     */
+    public final void runWhenHidden(@NonNull final Runnable action) {
+        Condition.INSTANCE.ensureNotNull(action, "The action may not be null");
+
+        pendingActions.add(action);
+
+        if (!isSidebarShown() && !isAnimationRunning()) {
+            executePendingActions();
+        }
+    }
+
+    /**
+     * Returns the maximum number of content views, which are retained in order to be reused, when
+     * they become shown again.
+     *
+     * @return The maximum number of content views, which are retained, as an {@link Integer}
+     * value or 0, if no content views are retained
+     */
+    public final int getContentViewPoolSize() {
+        return contentViewPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of content views, which should be retained in order to be reused,
+     * when they become shown again. Content views, which have been set using a resource id or key,
+     * are retained, when they are replaced. If the maximum number is exceeded, the least recently
+     * shown content views are discarded. Retained content views are also discarded, when the
+     * memory becomes low.
+     *
+     * @param contentViewPoolSize
+     *         The maximum number of content views, which should be set, as an {@link Integer}
+     *         value. The maximum number must be at least 0. If set to 0, no content views are
+     *         retained
+     */
+    public final void setContentViewPoolSize(final int contentViewPoolSize) {
+        Condition.INSTANCE.ensureAtLeast(contentViewPoolSize, 0,
+                "The content view pool size must be at least 0");
+        this.contentViewPoolSize = contentViewPoolSize;
+
+        if (contentViewPoolSize == 0) {
+            contentViewPool = null;
+        } else if (contentViewPool == null) {
+            contentViewPool = new ContentViewPool(contentViewPoolSize);
+        } else {
+            contentViewPool.setMaxSize(contentViewPoolSize);
+        }
+    }
+
+    /**
+     * Discards all content views, which are currently retained in order to be reused.
+     */
+    public final void clearContentViewPool() {
+        if (contentViewPool != null) {
+            contentViewPool.clear();
+        }
     }
 
     /**
@@ -1666,6 +3462,10 @@ public class Sidebar extends ViewGroup {
         if (sidebarView != null) {
             sidebarView.setSidebarBackground(sidebarBackground);
         }
+
+        if (inactiveSidebarView != null) {
+            inactiveSidebarView.setSidebarBackground(sidebarBackground);
+        }
     }
 
     /**
@@ -1676,15 +3476,8 @@ public class Sidebar extends ViewGroup {
      *         The id must be a valid resource id
      */
     public final void setSidebarBackground(@DrawableRes final int resourceId) {
-        if (resourceId == -1) {
-            this.sidebarBackground = null;
-        } else {
-            this.sidebarBackground = ContextCompat.getDrawable(getContext(), resourceId);
-        }
-
-        if (sidebarView != null) {
-            sidebarView.setSidebarBackground(sidebarBackground);
-        }
+        setSidebarBackground(
+                resourceId == -1 ? null : ContextCompat.getDrawable(getContext(), resourceId));
     }
 
     /**
@@ -1706,12 +3499,23 @@ public class Sidebar extends ViewGroup {
      */
     public final void setLocation(@NonNull final Location location) {
         Condition.INSTANCE.ensureNotNull(location, "The location may not be null");
+
+        if (secondarySidebarActive) {
+            switchSides();
+        }
+
         this.location = location;
 
         if (sidebarView != null && contentView != null) {
             sidebarView.setLocation(location);
         }
 
+        if (inactiveSidebarView != null) {
+            inactiveSidebarView.setLocation(getOppositeLocation());
+        }
+
+        updateHitRects();
+
         requestLayout();
     }
 
@@ -1722,7 +3526,7 @@ public class Sidebar extends ViewGroup {
      * must be greater than 0
      */
     public final float getAnimationSpeed() {
-        return pixelsToDp(getContext(), animationSpeed);
+        return animationSpeed;
     }
 
     /**
@@ -1735,7 +3539,7 @@ public class Sidebar extends ViewGroup {
     public final void setAnimationSpeed(final float animationSpeed) {
         Condition.INSTANCE
                 .ensureGreater(animationSpeed, 0, "The animation speed must be greater than 0");
-        this.animationSpeed = dpToPixels(getContext(), animationSpeed);
+        this.animationSpeed = animationSpeed;
     }
 
     /**
@@ -1762,7 +3566,7 @@ public class Sidebar extends ViewGroup {
         Condition.INSTANCE.ensureGreater(sidebarWidth, sidebarOffset,
                 "The sidebar width must be greater than the sidebar offset");
         this.sidebarWidth = sidebarWidth;
-        measureSidebarWidth();
+        measureSidebarWidth(getWidth());
         requestLayout();
     }
 
@@ -1823,7 +3627,7 @@ public class Sidebar extends ViewGroup {
         Condition.INSTANCE.ensureSmaller(sidebarOffset, sidebarWidth,
                 "The sidebar offset must be less than the sidebar width");
         this.sidebarOffset = sidebarOffset;
-        measureSidebarOffset();
+        measureSidebarOffset(getWidth());
         requestLayout();
     }
 
@@ -1883,6 +3687,46 @@ public class Sidebar extends ViewGroup {
         requestLayout();
     }
 
+    /**
+     * Returns the rendering profile, which specifies how expensive the visual effects of the
+     * sidebar are allowed to be.
+     *
+     * @return The rendering profile as a value of the enum {@link RenderingProfile}. The rendering
+     * profile may either be <code>AUTOMATIC</code>, <code>FULL</code> or <code>LITE</code>
+     */
+    public final RenderingProfile getRenderingProfile() {
+        return renderingProfile;
+    }
+
+    /**
+     * Sets the rendering profile, which specifies how expensive the visual effects of the sidebar
+     * are allowed to be. When using the profile <code>AUTOMATIC</code>, the profile, which is
+     * actually used, is determined again, whenever the sidebar is attached to a window.
+     *
+     * @param renderingProfile
+     *         The rendering profile, which should be set, as a value of the enum {@link
+     *         RenderingProfile}. The rendering profile may either be <code>AUTOMATIC</code>,
+     *         <code>FULL</code> or <code>LITE</code>
+     */
+    public final void setRenderingProfile(@NonNull final RenderingProfile renderingProfile) {
+        Condition.INSTANCE.ensureNotNull(renderingProfile, "The rendering profile may not be null");
+        this.renderingProfile = renderingProfile;
+        updateEffectiveRenderingProfile();
+    }
+
+    /**
+     * Returns the rendering profile, which is actually used. If the rendering profile
+     * <code>AUTOMATIC</code> has been set, this is the profile, which has been chosen depending on
+     * the device's state.
+     *
+     * @return The rendering profile, which is actually used, as a value of the enum {@link
+     * RenderingProfile}. The rendering profile may either be <code>FULL</code> or
+     * <code>LITE</code>
+     */
+    public final RenderingProfile getEffectiveRenderingProfile() {
+        return effectiveRenderingProfile;
+    }
+
     /**
      * Returns the ratio between the distance, the sidebar is moved by, when it becomes shown or
      * hidden, in relation to the distance, the content is moved by.
@@ -1937,6 +3781,7 @@ public class Sidebar extends ViewGroup {
     public final void setDragModeWhenHidden(@NonNull final DragMode dragMode) {
         Condition.INSTANCE.ensureNotNull(dragMode, "The drag mode may not be null");
         this.dragModeWhenHidden = dragMode;
+        updateHitRects();
     }
 
     /**
@@ -2021,8 +3866,89 @@ public class Sidebar extends ViewGroup {
                 .ensureAtLeast(dragSensitivity, 0, "The drag sensitivity must be at least 0");
         Condition.INSTANCE
                 .ensureAtMaximum(dragSensitivity, 1, "The drag sensitivity must be at maximum 1");
-        this.dragSensitivity = dragSensitivity;
-        this.dragHelper = new DragHelper(calculateDragSensitivity());
+
+        if (this.dragSensitivity != dragSensitivity) {
+            this.dragSensitivity = dragSensitivity;
+            this.dragHelper = new DragHelper(calculateDragSensitivity());
+        }
+    }
+
+    /**
+     * Returns the width of the region at the edge of the parent view, where drag gestures are
+     * recognized, when using the drag mode <code>DragMode.EDGE</code>.
+     *
+     * @return The width of the region in dp as an {@link Integer} value. The width must be greater
+     * than 0
+     */
+    public final int getEdgeWidth() {
+        return pixelsToDp(getContext(), edgeWidth);
+    }
+
+    /**
+     * Sets the width of the region at the edge of the parent view, where drag gestures should be
+     * recognized, when using the drag mode <code>DragMode.EDGE</code>.
+     *
+     * @param edgeWidth
+     *         The width, which should be set, in dp as an {@link Integer} value. The width must be
+     *         greater than 0
+     */
+    public final void setEdgeWidth(final int edgeWidth) {
+        Condition.INSTANCE.ensureGreater(edgeWidth, 0, "The edge width must be greater than 0");
+        setEdgeWidthInPixels(dpToPixels(getContext(), edgeWidth));
+    }
+
+    /**
+     * Returns the height of the band at the top of the parent view, which is excluded from the
+     * region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>.
+     *
+     * @return The height of the band in dp as an {@link Integer} value. The height must be at least
+     * 0
+     */
+    public final int getEdgeMarginTop() {
+        return pixelsToDp(getContext(), edgeMarginTop);
+    }
+
+    /**
+     * Sets the height of the band at the top of the parent view, which should be excluded from the
+     * region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>.
+     *
+     * @param edgeMarginTop
+     *         The height, which should be set, in dp as an {@link Integer} value. The height must
+     *         be at least 0
+     */
+    public final void setEdgeMarginTop(final int edgeMarginTop) {
+        Condition.INSTANCE
+                .ensureAtLeast(edgeMarginTop, 0, "The top edge margin must be at least 0");
+        setEdgeMarginTopInPixels(dpToPixels(getContext(), edgeMarginTop));
+    }
+
+    /**
+     * Returns the height of the band at the bottom of the parent view, which is excluded from the
+     * region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>.
+     *
+     * @return The height of the band in dp as an {@link Integer} value. The height must be at least
+     * 0
+     */
+    public final int getEdgeMarginBottom() {
+        return pixelsToDp(getContext(), edgeMarginBottom);
+    }
+
+    /**
+     * Sets the height of the band at the bottom of the parent view, which should be excluded from
+     * the region, where drag gestures are recognized, when using the drag mode
+     * <code>DragMode.EDGE</code>.
+     *
+     * @param edgeMarginBottom
+     *         The height, which should be set, in dp as an {@link Integer} value. The height must
+     *         be at least 0
+     */
+    public final void setEdgeMarginBottom(final int edgeMarginBottom) {
+        Condition.INSTANCE
+                .ensureAtLeast(edgeMarginBottom, 0, "The bottom edge margin must be at least 0");
+        setEdgeMarginBottomInPixels(dpToPixels(getContext(), edgeMarginBottom));
     }
 
     /**
@@ -2088,6 +4014,88 @@ public class Sidebar extends ViewGroup {
         this.showOnSidebarClick = showOnSidebarClick;
     }
 
+    /**
+     * Returns, whether the listeners are notified after the frame, which finishes an animation,
+     * has been drawn, or not.
+     *
+     * @return True, if the listeners are notified after the frame, which finishes an animation,
+     * has been drawn, false, if they are notified synchronously within that frame
+     */
+    public final boolean areListenerNotificationsDeferred() {
+        return deferListenerNotifications;
+    }
+
+    /**
+     * Sets, whether the listeners should be notified after the frame, which finishes an animation,
+     * has been drawn, or not. Deferring the notifications keeps expensive work, which is performed
+     * by listeners, out of the animation's final frame. The notifications are delivered in the
+     * order, the corresponding animations have finished.
+     *
+     * @param deferListenerNotifications
+     *         True, if the listeners should be notified after the frame, which finishes an
+     *         animation, has been drawn, false, if they should be notified synchronously within
+     *         that frame
+     */
+    public final void deferListenerNotifications(final boolean deferListenerNotifications) {
+        this.deferListenerNotifications = deferListenerNotifications;
+    }
+
+    /**
+     * Returns, whether the content is frozen, while the sidebar is shown, or not.
+     *
+     * @return True, if the content is frozen, while the sidebar is shown, false otherwise
+     */
+    public final boolean isContentFrozenWhenShown() {
+        return freezeContentWhenShown;
+    }
+
+    /**
+     * Sets, whether the content should be frozen, while the sidebar is shown, or not. When frozen,
+     * a snapshot of the content is drawn instead of the content itself, once the animation, which
+     * shows the sidebar, has finished. The content is made invisible in the meantime, which
+     * notifies its views about the visibility change and allows them to pause animations or other
+     * work. The content is rendered live again, as soon as the sidebar starts to be hidden or
+     * dragged.
+     *
+     * @param freezeContentWhenShown
+     *         True, if the content should be frozen, while the sidebar is shown, false otherwise
+     */
+    public final void freezeContentWhenShown(final boolean freezeContentWhenShown) {
+        this.freezeContentWhenShown = freezeContentWhenShown;
+
+        if (!freezeContentWhenShown && contentView != null) {
+            contentView.unfreeze();
+        }
+    }
+
+    /**
+     * Returns, whether the views, which have been inflated from layout resources, are retained
+     * across the recreation of the activity, or not.
+     *
+     * @return True, if the views, which have been inflated from layout resources, are retained
+     * across the recreation of the activity, false otherwise
+     */
+    public final boolean areViewsRetained() {
+        return retainViews;
+    }
+
+    /**
+     * Sets, whether the views, which have been inflated from layout resources, should be retained
+     * across the recreation of the activity, or not. If enabled, the views of the primary sidebar
+     * and the content, which are set using a layout resource id, are handed over to the {@link
+     * ViewRetainer}, when the activity is recreated due to a configuration change, and reused
+     * instead of being inflated again, when the sidebar of the new activity sets the same layout
+     * resources. Views are only retained, if the sidebar has an id, which identifies it within the
+     * new activity. The value must be set before the views are set in order to take effect.
+     *
+     * @param retainViews
+     *         True, if the views, which have been inflated from layout resources, should be
+     *         retained across the recreation of the activity, false otherwise
+     */
+    public final void retainViews(final boolean retainViews) {
+        this.retainViews = retainViews;
+    }
+
     /**
      * Returns the color of the overlay, which is shown in front of the main content, when the
      * sidebar is shown.
@@ -2162,16 +4170,18 @@ public class Sidebar extends ViewGroup {
      *         must be at least 0 and at maximum 16
      */
     public final void setSidebarElevation(final int elevation) {
-        Condition.INSTANCE.ensureAtLeast(elevation, 0, "The sidebar elevation must be at least 0");
-        Condition.INSTANCE.ensureAtMaximum(elevation, ElevationUtil.MAX_ELEVATION,
-                "The sidebar elevation must be at least " + ElevationUtil.MAX_ELEVATION);
+        Validation.ensureInRange(elevation, 0, ElevationUtil.MAX_ELEVATION, "sidebar elevation");
         this.sidebarElevation = elevation;
 
         if (sidebarView != null) {
-            sidebarView.setSidebarElevation(elevation);
+            sidebarView.setSidebarElevation(getEffectiveSidebarElevation());
+        }
+
+        if (inactiveSidebarView != null) {
+            inactiveSidebarView.setSidebarElevation(getEffectiveSidebarElevation());
         }
 
-        measureSidebarWidth();
+        measureSidebarWidth(getWidth());
         requestLayout();
     }
 
@@ -2200,6 +4210,34 @@ public class Sidebar extends ViewGroup {
         listeners.remove(listener);
     }
 
+    /**
+     * Adds a new listener, which should be notified, when the sidebar starts or stops being dragged
+     * or animated.
+     *
+     * @param listener
+     *         The listener, which should be added, as an instance of the type {@link
+     *         SidebarTransitionListener}. The listener may not be null
+     */
+    public final void addSidebarTransitionListener(
+            @NonNull final SidebarTransitionListener listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        transitionListeners.add(listener);
+    }
+
+    /**
+     * Removes a specific listener, which should not be notified, when the sidebar starts or stops
+     * being dragged or animated, anymore.
+     *
+     * @param listener
+     *         The listener, which should be removed, as an instance of the type {@link
+     *         SidebarTransitionListener}. The listener may not be null
+     */
+    public final void removeSidebarTransitionListener(
+            @NonNull final SidebarTransitionListener listener) {
+        Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
+        transitionListeners.remove(listener);
+    }
+
     /**
      * Returns, whether a drag gesture, which moves the sidebar, is currently performed, or not.
      *
@@ -2207,8 +4245,7 @@ public class Sidebar extends ViewGroup {
      * otherwise
      */
     public final boolean isDragging() {
-        return !dragHelper.isReset() && dragHelper.hasThresholdBeenReached() &&
-                isDraggingAllowed(dragHelper.getDragStartPosition());
+        return !dragHelper.isReset() && dragHelper.hasThresholdBeenReached() && draggingAllowed;
     }
 
     /**
@@ -2232,56 +4269,49 @@ public class Sidebar extends ViewGroup {
     }
 
     @Override
-    public final boolean dispatchTouchEvent(final MotionEvent event) {
-        boolean handled = false;
-
-        if (isSidebarClicked(event.getX()) && !isSidebarShown() && isShownOnSidebarClick()) {
-            handled = true;
-        } else if (isContentClicked(event.getX()) && isSidebarShown() && isHiddenOnContentClick()) {
-            handled = true;
-        }
-
-        switch (event.getAction()) {
+    public final boolean onInterceptTouchEvent(final MotionEvent event) {
+        switch (event.getActionMasked()) {
             case MotionEvent.ACTION_DOWN:
-                break;
+                handleTouchDown(event);
+                return isClickHandledBySidebar(touchDownX);
             case MotionEvent.ACTION_MOVE:
-                handled = handleDrag(event.getX());
-                break;
+                return handleTouchMove(event);
             case MotionEvent.ACTION_UP:
-                if (dragHelper.hasThresholdBeenReached() &&
-                        isDraggingAllowed(dragHelper.getDragStartPosition())) {
-                    handleRelease();
-                } else {
-                    handleClick(event.getX());
-                }
-
-                break;
+            case MotionEvent.ACTION_CANCEL:
+                handleTouchEnd();
+                return false;
             default:
-                break;
+                return beingDragged;
         }
-
-        return handled || super.dispatchTouchEvent(event);
     }
 
     @Override
     public final boolean onTouchEvent(final MotionEvent event) {
-        switch (event.getAction()) {
+        switch (event.getActionMasked()) {
             case MotionEvent.ACTION_DOWN:
                 return true;
             case MotionEvent.ACTION_MOVE:
-                handleDrag(event.getX());
+                handleTouchMove(event);
                 return true;
             case MotionEvent.ACTION_UP:
-
-                if (dragHelper.hasThresholdBeenReached() &&
-                        isDraggingAllowed(dragHelper.getDragStartPosition())) {
+                if (isDragging()) {
                     handleRelease();
                 } else {
                     handleClick(event.getX());
                 }
 
+                beingDragged = false;
                 performClick();
                 return true;
+            case MotionEvent.ACTION_CANCEL:
+                if (isDragging()) {
+                    handleRelease();
+                } else {
+                    handleTouchEnd();
+                }
+
+                beingDragged = false;
+                return true;
             default:
                 break;
         }
@@ -2296,27 +4326,174 @@ public class Sidebar extends ViewGroup {
     }
 
     @Override
-    protected final void onSizeChanged(final int width, final int height, final int oldWidth,
-                                       final int oldHeigth) {
-        super.onSizeChanged(width, height, oldWidth, oldHeigth);
-        measureSidebarWidth();
-        measureSidebarOffset();
+    protected final void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getContext().registerComponentCallbacks(componentCallbacks);
+        cheapRenderingPreferenceDetermined = false;
+        updateEffectiveRenderingProfile();
+
+        if (shown && freezeContentWhenShown && contentView != null) {
+            post(createFreezeContentRunnable());
+        }
+    }
+
+    @Override
+    protected final void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        getContext().unregisterComponentCallbacks(componentCallbacks);
+        cancelTransition();
+        retainViewsIfChangingConfigurations();
+    }
+
+    @Override
+    protected final void onConfigurationChanged(final Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        metrics = new SidebarMetrics(getContext());
+        cheapRenderingPreferenceDetermined = false;
+        updateEffectiveRenderingProfile();
+    }
+
+    /**
+     * Restores the sidebar's attributes from a specific saved state. Instead of using the public
+     * setters, which validate the values and may update the views and request a layout
+     * individually, all values are assigned directly. Afterwards, the views are updated and a
+     * layout is requested only once.
+     *
+     * @param savedState
+     *         The saved state, the attributes should be restored from, as an instance of the class
+     *         {@link SidebarSavedState}. The saved state may not be null
+     */
+    private void restoreState(@NonNull final SidebarSavedState savedState) {
+        Location previousLocation = location;
+        int previousElevation = sidebarElevation;
+
+        if (secondarySidebarActive) {
+            switchSides();
+        }
+
+        location = savedState.getLocation();
+        animationSpeed = savedState.getAnimationSpeed();
+        sidebarWidth = savedState.getSidebarWidth();
+        maxSidebarWidth = savedState.getMaxSidebarWidth() != -1 ?
+                dpToPixels(getContext(), savedState.getMaxSidebarWidth()) : -1;
+        sidebarOffset = savedState.getSidebarOffset();
+        maxSidebarOffset = savedState.getMaxSidebarOffset() != -1 ?
+                dpToPixels(getContext(), savedState.getMaxSidebarOffset()) : -1;
+        contentMode = savedState.getContentMode();
+        renderingProfile = savedState.getRenderingProfile();
+        scrollRatio = savedState.getScrollRatio();
+        dragThreshold = savedState.getDragThreshold();
+        dragModeWhenHidden = savedState.getDragModeWhenHidden();
+        dragModeWhenShown = savedState.getDragModeWhenShown();
+        edgeWidth = dpToPixels(getContext(), savedState.getEdgeWidth());
+        edgeMarginTop = dpToPixels(getContext(), savedState.getEdgeMarginTop());
+        edgeMarginBottom = dpToPixels(getContext(), savedState.getEdgeMarginBottom());
+        hideOnBackButton = savedState.isHideOnBackButton();
+        hideOnContentClick = savedState.isHideOnContentClick();
+        showOnSidebarClick = savedState.isShowOnSidebarClick();
+        deferListenerNotifications = savedState.isDeferListenerNotifications();
+        freezeContentWhenShown = savedState.isFreezeContentWhenShown();
+        contentOverlayColor = savedState.getContentOverlayColor();
+        contentOverlayTransparency = savedState.getContentOverlayTransparency();
+        sidebarElevation = savedState.getSidebarElevation();
+        shown = savedState.isShown();
+        resumedTransitionProgress = savedState.getTransitionProgress();
+        resumedTransitionShow = savedState.isTransitionShow();
+
+        if (resumedTransitionProgress >= 0) {
+            shown = !resumedTransitionShow;
+        }
+
+        setDragSensitivity(savedState.getDragSensitivity());
+        setContentViewPoolSize(savedState.getContentViewPoolSize());
+
+        if (inactiveSidebarView != null && savedState.isSecondarySidebarActive()) {
+            switchSides();
+        }
+
+        updateViewsAfterAssigningAttributes(previousLocation, previousElevation);
+    }
+
+    /**
+     * Updates the views, after the sidebar's attributes have been assigned directly, instead of
+     * using the public setters. The views are only updated, if necessary, and a layout is
+     * requested only once.
+     *
+     * @param previousLocation
+     *         The location of the sidebar, before the attributes have been assigned, as a value of
+     *         the enum {@link Location} or null, if no location has been set before
+     * @param previousElevation
+     *         The elevation of the sidebar, before the attributes have been assigned, in dp as an
+     *         {@link Integer} value
+     */
+    private void updateViewsAfterAssigningAttributes(@Nullable final Location previousLocation,
+                                                     final int previousElevation) {
+        RenderingProfile previousRenderingProfile = effectiveRenderingProfile;
+        updateEffectiveRenderingProfile();
+
+        if (location != previousLocation || sidebarElevation != previousElevation ||
+                effectiveRenderingProfile != previousRenderingProfile) {
+            if (sidebarView != null) {
+                sidebarView.setLocationAndElevation(location, getEffectiveSidebarElevation());
+            }
+
+            if (inactiveSidebarView != null) {
+                inactiveSidebarView.setLocationAndElevation(getOppositeLocation(),
+                        getEffectiveSidebarElevation());
+            }
+        }
+
+        if (contentView != null) {
+            contentView.setOverlayColor(contentOverlayColor);
+
+            if (shown) {
+                contentView.prepareOverlay();
+            }
+
+            if (!freezeContentWhenShown) {
+                contentView.unfreeze();
+            }
+        }
+
+        measureSidebarWidth(getWidth());
+        measureSidebarOffset(getWidth());
+        updateHitRects();
+        requestLayout();
+    }
+
+    @Override
+    protected final boolean drawChild(final Canvas canvas, final View child,
+                                      final long drawingTime) {
+        if ((child == sidebarView || child == inactiveSidebarView) &&
+                isSidebarOutsideOfVisibleArea((SidebarView) child)) {
+            return false;
+        } else if (child == contentView) {
+            return drawContentView(canvas, drawingTime);
+        }
+
+        return super.drawChild(canvas, child, drawingTime);
     }
 
     @Override
     protected final void onLayout(final boolean changed, final int l, final int t, final int r,
                                   final int b) {
-        if (!isDragging() && !isAnimationRunning()) {
+        updateHitRects();
+
+        if (resumedTransitionProgress >= 0 && sidebarView != null && contentView != null &&
+                getWidth() > 0 && !isDragging() && !isAnimationRunning()) {
+            resumeTransition(t, b);
+        } else if (!isDragging() && !isAnimationRunning()) {
             Pair<Integer, Integer> sidebarPos = calculateSidebarConstraints();
             sidebarView.layout(sidebarPos.first, t, sidebarPos.second, b);
 
             Pair<Integer, Integer> contentPos = calculateContentConstraints();
             contentView.setOverlayTransparency(calculateContentOverlayTransparency());
-            contentView.getLayoutParams().width = contentPos.second - contentPos.first;
             contentView.layout(contentPos.first, t, contentPos.second, b);
 
-            if (getContentMode() == ContentMode.RESIZE) {
-                contentView.requestLayout();
+            if (inactiveSidebarView != null) {
+                Pair<Integer, Integer> inactiveSidebarPos = calculateInactiveSidebarConstraints();
+                inactiveSidebarView
+                        .layout(inactiveSidebarPos.first, t, inactiveSidebarPos.second, b);
             }
         }
     }
@@ -2324,7 +4501,33 @@ public class Sidebar extends ViewGroup {
     @Override
     protected final void onMeasure(final int w, final int h) {
         super.onMeasure(w, h);
-        super.measureChildren(w, h);
+        int width = getMeasuredWidth();
+        int heightMeasureSpec =
+                MeasureSpec.makeMeasureSpec(getMeasuredHeight(), MeasureSpec.EXACTLY);
+        measureSidebarWidth(width);
+        measureSidebarOffset(width);
+
+        if (sidebarView != null) {
+            int sidebarViewWidth = mSidebarWidth + sidebarView.getShadowWidth();
+            sidebarView.getLayoutParams().width = sidebarViewWidth;
+            sidebarView.measure(MeasureSpec.makeMeasureSpec(sidebarViewWidth, MeasureSpec.EXACTLY),
+                    heightMeasureSpec);
+        }
+
+        if (inactiveSidebarView != null) {
+            int sidebarViewWidth = mSidebarWidth + inactiveSidebarView.getShadowWidth();
+            inactiveSidebarView.getLayoutParams().width = sidebarViewWidth;
+            inactiveSidebarView.measure(
+                    MeasureSpec.makeMeasureSpec(sidebarViewWidth, MeasureSpec.EXACTLY),
+                    heightMeasureSpec);
+        }
+
+        if (contentView != null) {
+            int contentViewWidth = calculateContentWidth(width);
+            contentView.getLayoutParams().width = contentViewWidth;
+            contentView.measure(MeasureSpec.makeMeasureSpec(contentViewWidth, MeasureSpec.EXACTLY),
+                    heightMeasureSpec);
+        }
     }
 
     @Override
@@ -2332,20 +4535,35 @@ public class Sidebar extends ViewGroup {
         Parcelable superState = super.onSaveInstanceState();
         SidebarSavedState savedState = new SidebarSavedState(superState);
         savedState.setLocation(getLocation());
+        savedState.setSecondarySidebarActive(secondarySidebarActive);
+
+        if (sidebarView != null && (isAnimationRunning() || isDragging())) {
+            savedState.setTransitionProgress(calculateTransitionProgress());
+            savedState.setTransitionShow(isAnimationRunning() ? animationShow : isShownOnRelease());
+        } else {
+            savedState.setTransitionProgress(-1);
+        }
         savedState.setAnimationSpeed(getAnimationSpeed());
         savedState.setSidebarWidth(getSidebarWidth());
         savedState.setMaxSidebarWidth(getMaxSidebarWidth());
         savedState.setSidebarOffset(getSidebarOffset());
         savedState.setMaxSidebarOffset(getMaxSidebarOffset());
         savedState.setContentMode(getContentMode());
+        savedState.setRenderingProfile(getRenderingProfile());
         savedState.setScrollRatio(getScrollRatio());
         savedState.setDragThreshold(getDragThreshold());
         savedState.setDragSensitivity(getDragSensitivity());
         savedState.setDragModeWhenHidden(getDragModeWhenHidden());
         savedState.setDragModeWhenShown(getDragModeWhenShown());
+        savedState.setContentViewPoolSize(getContentViewPoolSize());
+        savedState.setEdgeWidth(getEdgeWidth());
+        savedState.setEdgeMarginTop(getEdgeMarginTop());
+        savedState.setEdgeMarginBottom(getEdgeMarginBottom());
         savedState.setHideOnBackButton(isHiddenOnBackButton());
         savedState.setHideOnContentClick(isHiddenOnContentClick());
         savedState.setShowOnSidebarClick(isShownOnSidebarClick());
+        savedState.setDeferListenerNotifications(areListenerNotificationsDeferred());
+        savedState.setFreezeContentWhenShown(isContentFrozenWhenShown());
         savedState.setContentOverlayColor(getContentOverlayColor());
         savedState.setContentOverlayTransparency(getContentOverlayTransparency());
         savedState.setSidebarElevation(getSidebarElevation());
@@ -2357,26 +4575,7 @@ public class Sidebar extends ViewGroup {
     protected final void onRestoreInstanceState(final Parcelable state) {
         if (state != null && state instanceof SidebarSavedState) {
             SidebarSavedState savedState = (SidebarSavedState) state;
-            setLocation(savedState.getLocation());
-            setAnimationSpeed(savedState.getAnimationSpeed());
-            setSidebarWidth(savedState.getSidebarWidth());
-            setMaxSidebarWidth(savedState.getMaxSidebarWidth());
-            setSidebarOffset(savedState.getSidebarOffset());
-            setMaxSidebarOffset(savedState.getMaxSidebarOffset());
-            setContentMode(savedState.getContentMode());
-            setScrollRatio(savedState.getScrollRatio());
-            setDragThreshold(savedState.getDragThreshold());
-            setDragSensitivity(savedState.getDragSensitivity());
-            setDragModeWhenHidden(savedState.getDragModeWhenHidden());
-            setDragModeWhenShown(savedState.getDragModeWhenShown());
-            hideOnBackButton(savedState.isHideOnBackButton());
-            hideOnContentClick(savedState.isHideOnContentClick());
-            showOnSidebarClick(savedState.isShowOnSidebarClick());
-            setContentOverlayColor(savedState.getContentOverlayColor());
-            setContentOverlayTransparency(savedState.getContentOverlayTransparency());
-            setSidebarElevation(savedState.getSidebarElevation());
-            shown = savedState.isShown();
-            requestLayout();
+            restoreState(savedState);
             super.onRestoreInstanceState(savedState.getSuperState());
         } else {
             super.onRestoreInstanceState(state);
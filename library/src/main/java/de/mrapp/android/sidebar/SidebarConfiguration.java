@@ -0,0 +1,1112 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import de.mrapp.android.sidebar.util.Validation;
+import de.mrapp.android.util.ElevationUtil;
+import de.mrapp.util.Condition;
+
+/**
+ * An immutable configuration of a {@link Sidebar}. A configuration can be shared between multiple
+ * sidebars, e.g. between the sidebars, which are contained by the rows of a list, in order to avoid
+ * obtaining the same attributes for each sidebar. Instances are created by using the class {@link
+ * Builder}.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public final class SidebarConfiguration {
+
+    /**
+     * A builder, which allows to create immutable configurations of a {@link Sidebar}. By default,
+     * all values correspond to the default values of a sidebar.
+     */
+    public static final class Builder {
+
+        /**
+         * The location of the sidebar.
+         */
+        private Location location = Sidebar.DEFAULT_LOCATION;
+
+        /**
+         * The speed of the animation, which is used to show or hide the sidebar.
+         */
+        private float animationSpeed = Sidebar.DEFAULT_ANIMATION_SPEED;
+
+        /**
+         * The width of the sidebar in relation to the width of the parent view.
+         */
+        private float sidebarWidth = Sidebar.DEFAULT_SIDEBAR_WIDTH;
+
+        /**
+         * The maximum width of the sidebar.
+         */
+        private int maxSidebarWidth = Sidebar.DEFAULT_MAX_SIDEBAR_WIDTH;
+
+        /**
+         * The amount of space in relation to the width of the parent view, the sidebar is visible,
+         * even if it is hidden.
+         */
+        private float sidebarOffset = Sidebar.DEFAULT_SIDEBAR_OFFSET;
+
+        /**
+         * The maximum offset of the sidebar.
+         */
+        private int maxSidebarOffset = Sidebar.DEFAULT_MAX_SIDEBAR_OFFSET;
+
+        /**
+         * The content mode, which specifies how the main content is handled, when the sidebar
+         * becomes shown or hidden.
+         */
+        private ContentMode contentMode = Sidebar.DEFAULT_CONTENT_MODE;
+
+        /**
+         * The rendering profile, which specifies how expensive the visual effects of the sidebar
+         * are allowed to be.
+         */
+        private RenderingProfile renderingProfile = Sidebar.DEFAULT_RENDERING_PROFILE;
+
+        /**
+         * The ratio between the distance, the sidebar is moved by, and the distance, the content is
+         * moved by.
+         */
+        private float scrollRatio = Sidebar.DEFAULT_SCROLL_RATIO;
+
+        /**
+         * The mode, which specifies the areas, which can be dragged, when the sidebar is hidden.
+         */
+        private DragMode dragModeWhenHidden = Sidebar.DEFAULT_DRAG_MODE_WHEN_HIDDEN;
+
+        /**
+         * The mode, which specifies the areas, which can be dragged, when the sidebar is shown.
+         */
+        private DragMode dragModeWhenShown = Sidebar.DEFAULT_DRAG_MODE_WHEN_SHOWN;
+
+        /**
+         * The distance, the sidebar has to be dragged until its state changes, in relation to the
+         * whole distance.
+         */
+        private float dragThreshold = Sidebar.DEFAULT_DRAG_THRESHOLD;
+
+        /**
+         * The sensitivity, which specifies the distance after which dragging has an effect on the
+         * sidebar.
+         */
+        private float dragSensitivity = Sidebar.DEFAULT_DRAG_SENSITIVITY;
+
+        /**
+         * The width of the region at the edge of the parent view, where drag gestures are
+         * recognized, when using the drag mode <code>DragMode.EDGE</code>.
+         */
+        private int edgeWidth = Sidebar.DEFAULT_EDGE_WIDTH;
+
+        /**
+         * The distance between the top of the parent view and the region, where edge drag gestures
+         * are recognized.
+         */
+        private int edgeMarginTop = Sidebar.DEFAULT_EDGE_MARGIN_TOP;
+
+        /**
+         * The distance between the bottom of the parent view and the region, where edge drag
+         * gestures are recognized.
+         */
+        private int edgeMarginBottom = Sidebar.DEFAULT_EDGE_MARGIN_BOTTOM;
+
+        /**
+         * True, if the sidebar is hidden, when the device's back button is clicked, false
+         * otherwise.
+         */
+        private boolean hideOnBackButton = Sidebar.DEFAULT_HIDE_ON_BACK_BUTTON;
+
+        /**
+         * True, if the sidebar is hidden, when the content is clicked by the user, false otherwise.
+         */
+        private boolean hideOnContentClick = Sidebar.DEFAULT_HIDE_ON_CONTENT_CLICK;
+
+        /**
+         * True, if the sidebar is shown, when it is clicked by the user, false otherwise.
+         */
+        private boolean showOnSidebarClick = Sidebar.DEFAULT_SHOW_ON_SIDEBAR_CLICK;
+
+        /**
+         * True, if the listeners are notified after the frame, which finishes an animation, has
+         * been drawn, false otherwise.
+         */
+        private boolean deferListenerNotifications = Sidebar.DEFAULT_DEFER_LISTENER_NOTIFICATIONS;
+
+        /**
+         * True, if the content is frozen, while the sidebar is shown, false otherwise.
+         */
+        private boolean freezeContentWhenShown = Sidebar.DEFAULT_FREEZE_CONTENT_WHEN_SHOWN;
+
+        /**
+         * True, if the views, which have been inflated from layout resources, are retained across
+         * the recreation of the activity, false otherwise.
+         */
+        private boolean retainViews = Sidebar.DEFAULT_RETAIN_VIEWS;
+
+        /**
+         * The color of the overlay, which is shown in front of the main content, when the sidebar
+         * is shown.
+         */
+        private int contentOverlayColor = Sidebar.DEFAULT_CONTENT_OVERLAY_COLOR;
+
+        /**
+         * The transparency of the overlay, which is shown in front of the main content, when the
+         * sidebar is shown.
+         */
+        private float contentOverlayTransparency = Sidebar.DEFAULT_CONTENT_OVERLAY_TRANSPARENCY;
+
+        /**
+         * The elevation of the sidebar.
+         */
+        private int sidebarElevation = Sidebar.DEFAULT_SIDEBAR_ELEVATION;
+
+        /**
+         * The maximum number of content views, which are retained in order to be reused.
+         */
+        private int contentViewPoolSize = Sidebar.DEFAULT_CONTENT_VIEW_POOL_SIZE;
+
+        /**
+         * Ensures, that the builder's current values are valid, both individually and in relation
+         * to each other. The values are validated at once, in order to allow setting them in any
+         * order.
+         */
+        private void validate() {
+            Condition.INSTANCE
+                    .ensureGreater(animationSpeed, 0, "The animation speed must be greater than 0");
+            Condition.INSTANCE
+                    .ensureAtLeast(sidebarWidth, 0, "The sidebar width must be at least 0");
+            Condition.INSTANCE
+                    .ensureAtMaximum(sidebarWidth, 1, "The sidebar width must be at maximum 1");
+            Condition.INSTANCE
+                    .ensureAtLeast(sidebarOffset, 0, "The sidebar offset must be at least 0");
+            Condition.INSTANCE
+                    .ensureAtMaximum(sidebarOffset, 1, "The sidebar offset must be at maximum 1");
+            Condition.INSTANCE.ensureGreater(sidebarWidth, sidebarOffset,
+                    "The sidebar width must be greater than the sidebar offset");
+
+            if (maxSidebarWidth != -1) {
+                Condition.INSTANCE.ensureGreater(maxSidebarWidth, 0,
+                        "The maximum sidebar width must be greater than 0");
+            }
+
+            if (maxSidebarOffset != -1) {
+                Condition.INSTANCE.ensureGreater(maxSidebarOffset, 0,
+                        "The maximum sidebar offset must be greater than 0");
+            }
+
+            Condition.INSTANCE.ensureAtLeast(scrollRatio, 0, "The scroll ratio must be at least 0");
+            Condition.INSTANCE
+                    .ensureAtMaximum(scrollRatio, 1, "The scroll ratio must be at maximum 1");
+
+            if (dragModeWhenShown == DragMode.EDGE) {
+                throw new IllegalArgumentException(
+                        "The drag mode when shown may not be " + DragMode.EDGE);
+            }
+
+            Condition.INSTANCE
+                    .ensureAtLeast(dragThreshold, 0, "The drag threshold must be at least 0");
+            Condition.INSTANCE
+                    .ensureAtMaximum(dragThreshold, 1, "The drag threshold must be at maximum 1");
+            Condition.INSTANCE
+                    .ensureAtLeast(dragSensitivity, 0, "The drag sensitivity must be at least 0");
+            Condition.INSTANCE.ensureAtMaximum(dragSensitivity, 1,
+                    "The drag sensitivity must be at maximum 1");
+            Condition.INSTANCE.ensureGreater(edgeWidth, 0, "The edge width must be greater than 0");
+            Condition.INSTANCE
+                    .ensureAtLeast(edgeMarginTop, 0, "The top edge margin must be at least 0");
+            Condition.INSTANCE.ensureAtLeast(edgeMarginBottom, 0,
+                    "The bottom edge margin must be at least 0");
+            Condition.INSTANCE.ensureAtLeast(contentOverlayTransparency, 0,
+                    "The transparency must be at least 0");
+            Condition.INSTANCE.ensureAtMaximum(contentOverlayTransparency, 1,
+                    "The transparency must be at maximum 1");
+            Validation.ensureInRange(sidebarElevation, 0, ElevationUtil.MAX_ELEVATION,
+                    "sidebar elevation");
+
+            Condition.INSTANCE.ensureAtLeast(contentViewPoolSize, 0,
+                    "The content view pool size must be at least 0");
+        }
+
+        /**
+         * Creates and returns the configuration, which corresponds to the builder's current
+         * values. All values are validated at once, when the configuration is created.
+         *
+         * @return The configuration, which has been created, as an instance of the class {@link
+         * SidebarConfiguration}. The configuration may not be null
+         * @throws IllegalArgumentException
+         *         If any of the builder's values is invalid
+         */
+        @NonNull
+        public SidebarConfiguration create() {
+            validate();
+            return new SidebarConfiguration(this);
+        }
+
+        /**
+         * Sets the location of the sidebar.
+         *
+         * @param location
+         *         The location, which should be set, as a value of the enum {@link Location}. The
+         *         location may either be <code>LEFT</code> or <code>RIGHT</code>
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setLocation(@NonNull final Location location) {
+            Condition.INSTANCE.ensureNotNull(location, "The location may not be null");
+            this.location = location;
+            return this;
+        }
+
+        /**
+         * Sets the speed of the animation, which is used to show or hide the sidebar.
+         *
+         * @param animationSpeed
+         *         The speed, which should be set, in dp per millisecond as a {@link Float} value.
+         *         The speed must be greater than 0
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setAnimationSpeed(final float animationSpeed) {
+            this.animationSpeed = animationSpeed;
+            return this;
+        }
+
+        /**
+         * Sets the width of the sidebar in relation to the width of the parent view.
+         *
+         * @param sidebarWidth
+         *         The width, which should be set, as a {@link Float} value. The width must be at
+         *         least 0 and at maximum 1
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setSidebarWidth(final float sidebarWidth) {
+            this.sidebarWidth = sidebarWidth;
+            return this;
+        }
+
+        /**
+         * Sets the maximum width of the sidebar.
+         *
+         * @param maxSidebarWidth
+         *         The maximum width, which should be set, in dp as an {@link Integer} value or -1,
+         *         if the sidebar's width should not be restricted
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setMaxSidebarWidth(final int maxSidebarWidth) {
+            this.maxSidebarWidth = maxSidebarWidth;
+            return this;
+        }
+
+        /**
+         * Sets the amount of space in relation to the width of the parent view, the sidebar is
+         * visible, even if it is hidden.
+         *
+         * @param sidebarOffset
+         *         The offset, which should be set, as a {@link Float} value. The offset must be at
+         *         least 0 and at maximum 1
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setSidebarOffset(final float sidebarOffset) {
+            this.sidebarOffset = sidebarOffset;
+            return this;
+        }
+
+        /**
+         * Sets the maximum offset of the sidebar.
+         *
+         * @param maxSidebarOffset
+         *         The maximum offset, which should be set, in dp as an {@link Integer} value or -1,
+         *         if the sidebar's offset should not be restricted
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setMaxSidebarOffset(final int maxSidebarOffset) {
+            this.maxSidebarOffset = maxSidebarOffset;
+            return this;
+        }
+
+        /**
+         * Sets the content mode, which specifies how the main content is handled, when the sidebar
+         * becomes shown or hidden.
+         *
+         * @param contentMode
+         *         The content mode, which should be set, as a value of the enum {@link
+         *         ContentMode}. The content mode may either be <code>SCROLL</code> or
+         *         <code>RESIZE</code>
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setContentMode(@NonNull final ContentMode contentMode) {
+            Condition.INSTANCE.ensureNotNull(contentMode, "The content mode may not be null");
+            this.contentMode = contentMode;
+            return this;
+        }
+
+        /**
+         * Sets the rendering profile, which specifies how expensive the visual effects of the
+         * sidebar are allowed to be.
+         *
+         * @param renderingProfile
+         *         The rendering profile, which should be set, as a value of the enum {@link
+         *         RenderingProfile}. The rendering profile may either be <code>AUTOMATIC</code>,
+         *         <code>FULL</code> or <code>LITE</code>
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setRenderingProfile(@NonNull final RenderingProfile renderingProfile) {
+            Condition.INSTANCE
+                    .ensureNotNull(renderingProfile, "The rendering profile may not be null");
+            this.renderingProfile = renderingProfile;
+            return this;
+        }
+
+        /**
+         * Sets the ratio between the distance, the sidebar is moved by, and the distance, the
+         * content is moved by.
+         *
+         * @param scrollRatio
+         *         The scroll ratio, which should be set, as a {@link Float} value. The scroll ratio
+         *         must be at least 0 and at maximum 1
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setScrollRatio(final float scrollRatio) {
+            this.scrollRatio = scrollRatio;
+            return this;
+        }
+
+        /**
+         * Sets the mode, which specifies the areas, which can be dragged, when the sidebar is
+         * hidden.
+         *
+         * @param dragModeWhenHidden
+         *         The drag mode, which should be set, as a value of the enum {@link DragMode}. The
+         *         drag mode may not be null
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setDragModeWhenHidden(@NonNull final DragMode dragModeWhenHidden) {
+            Condition.INSTANCE.ensureNotNull(dragModeWhenHidden, "The drag mode may not be null");
+            this.dragModeWhenHidden = dragModeWhenHidden;
+            return this;
+        }
+
+        /**
+         * Sets the mode, which specifies the areas, which can be dragged, when the sidebar is
+         * shown.
+         *
+         * @param dragModeWhenShown
+         *         The drag mode, which should be set, as a value of the enum {@link DragMode}. The
+         *         drag mode may not be null
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setDragModeWhenShown(@NonNull final DragMode dragModeWhenShown) {
+            Condition.INSTANCE.ensureNotNull(dragModeWhenShown, "The drag mode may not be null");
+            this.dragModeWhenShown = dragModeWhenShown;
+            return this;
+        }
+
+        /**
+         * Sets the distance, the sidebar has to be dragged until its state changes, in relation to
+         * the whole distance.
+         *
+         * @param dragThreshold
+         *         The drag threshold, which should be set, as a {@link Float} value. The drag
+         *         threshold must be at least 0 and at maximum 1
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setDragThreshold(final float dragThreshold) {
+            this.dragThreshold = dragThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the sensitivity, which specifies the distance after which dragging has an effect on
+         * the sidebar.
+         *
+         * @param dragSensitivity
+         *         The drag sensitivity, which should be set, as a {@link Float} value. The drag
+         *         sensitivity must be at least 0 and at maximum 1
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setDragSensitivity(final float dragSensitivity) {
+            this.dragSensitivity = dragSensitivity;
+            return this;
+        }
+
+        /**
+         * Sets the width of the region at the edge of the parent view, where drag gestures are
+         * recognized, when using the drag mode <code>DragMode.EDGE</code>.
+         *
+         * @param edgeWidth
+         *         The width, which should be set, in dp as an {@link Integer} value. The width must
+         *         be greater than 0
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setEdgeWidth(final int edgeWidth) {
+            this.edgeWidth = edgeWidth;
+            return this;
+        }
+
+        /**
+         * Sets the distance between the top of the parent view and the region, where edge drag
+         * gestures are recognized.
+         *
+         * @param edgeMarginTop
+         *         The distance, which should be set, in dp as an {@link Integer} value. The
+         *         distance must be at least 0
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setEdgeMarginTop(final int edgeMarginTop) {
+            this.edgeMarginTop = edgeMarginTop;
+            return this;
+        }
+
+        /**
+         * Sets the distance between the bottom of the parent view and the region, where edge drag
+         * gestures are recognized.
+         *
+         * @param edgeMarginBottom
+         *         The distance, which should be set, in dp as an {@link Integer} value. The
+         *         distance must be at least 0
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setEdgeMarginBottom(final int edgeMarginBottom) {
+            this.edgeMarginBottom = edgeMarginBottom;
+            return this;
+        }
+
+        /**
+         * Sets, whether the sidebar is hidden, when the device's back button is clicked, or not.
+         *
+         * @param hideOnBackButton
+         *         True, if the sidebar should be hidden, when the device's back button is clicked,
+         *         false otherwise
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder hideOnBackButton(final boolean hideOnBackButton) {
+            this.hideOnBackButton = hideOnBackButton;
+            return this;
+        }
+
+        /**
+         * Sets, whether the sidebar is hidden, when the content is clicked by the user, or not.
+         *
+         * @param hideOnContentClick
+         *         True, if the sidebar should be hidden, when the content is clicked by the user,
+         *         false otherwise
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder hideOnContentClick(final boolean hideOnContentClick) {
+            this.hideOnContentClick = hideOnContentClick;
+            return this;
+        }
+
+        /**
+         * Sets, whether the sidebar is shown, when it is clicked by the user, or not.
+         *
+         * @param showOnSidebarClick
+         *         True, if the sidebar should be shown, when it is clicked by the user, false
+         *         otherwise
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder showOnSidebarClick(final boolean showOnSidebarClick) {
+            this.showOnSidebarClick = showOnSidebarClick;
+            return this;
+        }
+
+        /**
+         * Sets, whether the listeners are notified after the frame, which finishes an animation,
+         * has been drawn, or not.
+         *
+         * @param deferListenerNotifications
+         *         True, if the listeners should be notified after the frame, which finishes an
+         *         animation, has been drawn, false otherwise
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder deferListenerNotifications(final boolean deferListenerNotifications) {
+            this.deferListenerNotifications = deferListenerNotifications;
+            return this;
+        }
+
+        /**
+         * Sets, whether the content is frozen, while the sidebar is shown, or not.
+         *
+         * @param freezeContentWhenShown
+         *         True, if the content should be frozen, while the sidebar is shown, false
+         *         otherwise
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder freezeContentWhenShown(final boolean freezeContentWhenShown) {
+            this.freezeContentWhenShown = freezeContentWhenShown;
+            return this;
+        }
+
+        /**
+         * Sets, whether the views, which have been inflated from layout resources, are retained
+         * across the recreation of the activity, or not.
+         *
+         * @param retainViews
+         *         True, if the views, which have been inflated from layout resources, should be
+         *         retained across the recreation of the activity, false otherwise
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder retainViews(final boolean retainViews) {
+            this.retainViews = retainViews;
+            return this;
+        }
+
+        /**
+         * Sets the color of the overlay, which is shown in front of the main content, when the
+         * sidebar is shown.
+         *
+         * @param contentOverlayColor
+         *         The color, which should be set, as an {@link Integer} value
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setContentOverlayColor(@ColorInt final int contentOverlayColor) {
+            this.contentOverlayColor = contentOverlayColor;
+            return this;
+        }
+
+        /**
+         * Sets the transparency of the overlay, which is shown in front of the main content, when
+         * the sidebar is shown.
+         *
+         * @param contentOverlayTransparency
+         *         The transparency, which should be set, as a {@link Float} value. The transparency
+         *         must be at least 0 and at maximum 1
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setContentOverlayTransparency(final float contentOverlayTransparency) {
+            this.contentOverlayTransparency = contentOverlayTransparency;
+            return this;
+        }
+
+        /**
+         * Sets the elevation of the sidebar.
+         *
+         * @param sidebarElevation
+         *         The elevation, which should be set, in dp as an {@link Integer} value. The
+         *         elevation must be at least 0 and at maximum 16
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setSidebarElevation(final int sidebarElevation) {
+            this.sidebarElevation = sidebarElevation;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of content views, which are retained in order to be reused.
+         *
+         * @param contentViewPoolSize
+         *         The maximum number, which should be set, as an {@link Integer} value. The maximum
+         *         number must be at least 0
+         * @return The builder, this method has been called upon, as an instance of the class
+         * {@link Builder}. The builder may not be null
+         */
+        @NonNull
+        public Builder setContentViewPoolSize(final int contentViewPoolSize) {
+            this.contentViewPoolSize = contentViewPoolSize;
+            return this;
+        }
+
+    }
+
+    /**
+     * The location of the sidebar.
+     */
+    private final Location location;
+
+    /**
+     * The speed of the animation, which is used to show or hide the sidebar.
+     */
+    private final float animationSpeed;
+
+    /**
+     * The width of the sidebar in relation to the width of the parent view.
+     */
+    private final float sidebarWidth;
+
+    /**
+     * The maximum width of the sidebar.
+     */
+    private final int maxSidebarWidth;
+
+    /**
+     * The amount of space in relation to the width of the parent view, the sidebar is visible, even
+     * if it is hidden.
+     */
+    private final float sidebarOffset;
+
+    /**
+     * The maximum offset of the sidebar.
+     */
+    private final int maxSidebarOffset;
+
+    /**
+     * The content mode, which specifies how the main content is handled, when the sidebar becomes
+     * shown or hidden.
+     */
+    private final ContentMode contentMode;
+
+    /**
+     * The rendering profile, which specifies how expensive the visual effects of the sidebar are
+     * allowed to be.
+     */
+    private final RenderingProfile renderingProfile;
+
+    /**
+     * The ratio between the distance, the sidebar is moved by, and the distance, the content is
+     * moved by.
+     */
+    private final float scrollRatio;
+
+    /**
+     * The mode, which specifies the areas, which can be dragged, when the sidebar is hidden.
+     */
+    private final DragMode dragModeWhenHidden;
+
+    /**
+     * The mode, which specifies the areas, which can be dragged, when the sidebar is shown.
+     */
+    private final DragMode dragModeWhenShown;
+
+    /**
+     * The distance, the sidebar has to be dragged until its state changes, in relation to the whole
+     * distance.
+     */
+    private final float dragThreshold;
+
+    /**
+     * The sensitivity, which specifies the distance after which dragging has an effect on the
+     * sidebar.
+     */
+    private final float dragSensitivity;
+
+    /**
+     * The width of the region at the edge of the parent view, where drag gestures are recognized,
+     * when using the drag mode <code>DragMode.EDGE</code>.
+     */
+    private final int edgeWidth;
+
+    /**
+     * The distance between the top of the parent view and the region, where edge drag gestures are
+     * recognized.
+     */
+    private final int edgeMarginTop;
+
+    /**
+     * The distance between the bottom of the parent view and the region, where edge drag gestures
+     * are recognized.
+     */
+    private final int edgeMarginBottom;
+
+    /**
+     * True, if the sidebar is hidden, when the device's back button is clicked, false otherwise.
+     */
+    private final boolean hideOnBackButton;
+
+    /**
+     * True, if the sidebar is hidden, when the content is clicked by the user, false otherwise.
+     */
+    private final boolean hideOnContentClick;
+
+    /**
+     * True, if the sidebar is shown, when it is clicked by the user, false otherwise.
+     */
+    private final boolean showOnSidebarClick;
+
+    /**
+     * True, if the listeners are notified after the frame, which finishes an animation, has been
+     * drawn, false otherwise.
+     */
+    private final boolean deferListenerNotifications;
+
+    /**
+     * True, if the content is frozen, while the sidebar is shown, false otherwise.
+     */
+    private final boolean freezeContentWhenShown;
+
+    /**
+     * True, if the views, which have been inflated from layout resources, are retained across the
+     * recreation of the activity, false otherwise.
+     */
+    private final boolean retainViews;
+
+    /**
+     * The color of the overlay, which is shown in front of the main content, when the sidebar is
+     * shown.
+     */
+    private final int contentOverlayColor;
+
+    /**
+     * The transparency of the overlay, which is shown in front of the main content, when the
+     * sidebar is shown.
+     */
+    private final float contentOverlayTransparency;
+
+    /**
+     * The elevation of the sidebar.
+     */
+    private final int sidebarElevation;
+
+    /**
+     * The maximum number of content views, which are retained in order to be reused.
+     */
+    private final int contentViewPoolSize;
+
+    /**
+     * Creates a new immutable configuration of a {@link Sidebar}.
+     *
+     * @param builder
+     *         The builder, which contains the values of the configuration, as an instance of the
+     *         class {@link Builder}. The builder may not be null
+     */
+    private SidebarConfiguration(@NonNull final Builder builder) {
+        this.location = builder.location;
+        this.animationSpeed = builder.animationSpeed;
+        this.sidebarWidth = builder.sidebarWidth;
+        this.maxSidebarWidth = builder.maxSidebarWidth;
+        this.sidebarOffset = builder.sidebarOffset;
+        this.maxSidebarOffset = builder.maxSidebarOffset;
+        this.contentMode = builder.contentMode;
+        this.renderingProfile = builder.renderingProfile;
+        this.scrollRatio = builder.scrollRatio;
+        this.dragModeWhenHidden = builder.dragModeWhenHidden;
+        this.dragModeWhenShown = builder.dragModeWhenShown;
+        this.dragThreshold = builder.dragThreshold;
+        this.dragSensitivity = builder.dragSensitivity;
+        this.edgeWidth = builder.edgeWidth;
+        this.edgeMarginTop = builder.edgeMarginTop;
+        this.edgeMarginBottom = builder.edgeMarginBottom;
+        this.hideOnBackButton = builder.hideOnBackButton;
+        this.hideOnContentClick = builder.hideOnContentClick;
+        this.showOnSidebarClick = builder.showOnSidebarClick;
+        this.deferListenerNotifications = builder.deferListenerNotifications;
+        this.freezeContentWhenShown = builder.freezeContentWhenShown;
+        this.retainViews = builder.retainViews;
+        this.contentOverlayColor = builder.contentOverlayColor;
+        this.contentOverlayTransparency = builder.contentOverlayTransparency;
+        this.sidebarElevation = builder.sidebarElevation;
+        this.contentViewPoolSize = builder.contentViewPoolSize;
+    }
+
+    /**
+     * Returns the location of the sidebar.
+     *
+     * @return The location of the sidebar as a value of the enum {@link Location}
+     */
+    @NonNull
+    public Location getLocation() {
+        return location;
+    }
+
+    /**
+     * Returns the speed of the animation, which is used to show or hide the sidebar.
+     *
+     * @return The speed of the animation in dp per millisecond as a {@link Float} value
+     */
+    public float getAnimationSpeed() {
+        return animationSpeed;
+    }
+
+    /**
+     * Returns the width of the sidebar in relation to the width of the parent view.
+     *
+     * @return The width of the sidebar as a {@link Float} value
+     */
+    public float getSidebarWidth() {
+        return sidebarWidth;
+    }
+
+    /**
+     * Returns the maximum width of the sidebar.
+     *
+     * @return The maximum width of the sidebar in dp as an {@link Integer} value or -1, if the
+     * sidebar's width is not restricted
+     */
+    public int getMaxSidebarWidth() {
+        return maxSidebarWidth;
+    }
+
+    /**
+     * Returns the amount of space in relation to the width of the parent view, the sidebar is
+     * visible, even if it is hidden.
+     *
+     * @return The offset of the sidebar as a {@link Float} value
+     */
+    public float getSidebarOffset() {
+        return sidebarOffset;
+    }
+
+    /**
+     * Returns the maximum offset of the sidebar.
+     *
+     * @return The maximum offset of the sidebar in dp as an {@link Integer} value or -1, if the
+     * sidebar's offset is not restricted
+     */
+    public int getMaxSidebarOffset() {
+        return maxSidebarOffset;
+    }
+
+    /**
+     * Returns the content mode, which specifies how the main content is handled, when the sidebar
+     * becomes shown or hidden.
+     *
+     * @return The content mode as a value of the enum {@link ContentMode}
+     */
+    @NonNull
+    public ContentMode getContentMode() {
+        return contentMode;
+    }
+
+    /**
+     * Returns the rendering profile, which specifies how expensive the visual effects of the
+     * sidebar are allowed to be.
+     *
+     * @return The rendering profile as a value of the enum {@link RenderingProfile}
+     */
+    @NonNull
+    public RenderingProfile getRenderingProfile() {
+        return renderingProfile;
+    }
+
+    /**
+     * Returns the ratio between the distance, the sidebar is moved by, and the distance, the
+     * content is moved by.
+     *
+     * @return The scroll ratio as a {@link Float} value
+     */
+    public float getScrollRatio() {
+        return scrollRatio;
+    }
+
+    /**
+     * Returns the mode, which specifies the areas, which can be dragged, when the sidebar is
+     * hidden.
+     *
+     * @return The drag mode as a value of the enum {@link DragMode}
+     */
+    @NonNull
+    public DragMode getDragModeWhenHidden() {
+        return dragModeWhenHidden;
+    }
+
+    /**
+     * Returns the mode, which specifies the areas, which can be dragged, when the sidebar is shown.
+     *
+     * @return The drag mode as a value of the enum {@link DragMode}
+     */
+    @NonNull
+    public DragMode getDragModeWhenShown() {
+        return dragModeWhenShown;
+    }
+
+    /**
+     * Returns the distance, the sidebar has to be dragged until its state changes, in relation to
+     * the whole distance.
+     *
+     * @return The drag threshold as a {@link Float} value
+     */
+    public float getDragThreshold() {
+        return dragThreshold;
+    }
+
+    /**
+     * Returns the sensitivity, which specifies the distance after which dragging has an effect on
+     * the sidebar.
+     *
+     * @return The drag sensitivity as a {@link Float} value
+     */
+    public float getDragSensitivity() {
+        return dragSensitivity;
+    }
+
+    /**
+     * Returns the width of the region at the edge of the parent view, where drag gestures are
+     * recognized, when using the drag mode <code>DragMode.EDGE</code>.
+     *
+     * @return The width of the region in dp as an {@link Integer} value
+     */
+    public int getEdgeWidth() {
+        return edgeWidth;
+    }
+
+    /**
+     * Returns the distance between the top of the parent view and the region, where edge drag
+     * gestures are recognized.
+     *
+     * @return The distance in dp as an {@link Integer} value
+     */
+    public int getEdgeMarginTop() {
+        return edgeMarginTop;
+    }
+
+    /**
+     * Returns the distance between the bottom of the parent view and the region, where edge drag
+     * gestures are recognized.
+     *
+     * @return The distance in dp as an {@link Integer} value
+     */
+    public int getEdgeMarginBottom() {
+        return edgeMarginBottom;
+    }
+
+    /**
+     * Returns, whether the sidebar is hidden, when the device's back button is clicked, or not.
+     *
+     * @return True, if the sidebar is hidden, when the device's back button is clicked, false
+     * otherwise
+     */
+    public boolean isHiddenOnBackButton() {
+        return hideOnBackButton;
+    }
+
+    /**
+     * Returns, whether the sidebar is hidden, when the content is clicked by the user, or not.
+     *
+     * @return True, if the sidebar is hidden, when the content is clicked by the user, false
+     * otherwise
+     */
+    public boolean isHiddenOnContentClick() {
+        return hideOnContentClick;
+    }
+
+    /**
+     * Returns, whether the sidebar is shown, when it is clicked by the user, or not.
+     *
+     * @return True, if the sidebar is shown, when it is clicked by the user, false otherwise
+     */
+    public boolean isShownOnSidebarClick() {
+        return showOnSidebarClick;
+    }
+
+    /**
+     * Returns, whether the listeners are notified after the frame, which finishes an animation, has
+     * been drawn, or not.
+     *
+     * @return True, if the listeners are notified after the frame, which finishes an animation, has
+     * been drawn, false otherwise
+     */
+    public boolean areListenerNotificationsDeferred() {
+        return deferListenerNotifications;
+    }
+
+    /**
+     * Returns, whether the content is frozen, while the sidebar is shown, or not.
+     *
+     * @return True, if the content is frozen, while the sidebar is shown, false otherwise
+     */
+    public boolean isContentFrozenWhenShown() {
+        return freezeContentWhenShown;
+    }
+
+    /**
+     * Returns, whether the views, which have been inflated from layout resources, are retained
+     * across the recreation of the activity, or not.
+     *
+     * @return True, if the views, which have been inflated from layout resources, are retained
+     * across the recreation of the activity, false otherwise
+     */
+    public boolean areViewsRetained() {
+        return retainViews;
+    }
+
+    /**
+     * Returns the color of the overlay, which is shown in front of the main content, when the
+     * sidebar is shown.
+     *
+     * @return The color of the overlay as an {@link Integer} value
+     */
+    public int getContentOverlayColor() {
+        return contentOverlayColor;
+    }
+
+    /**
+     * Returns the transparency of the overlay, which is shown in front of the main content, when
+     * the sidebar is shown.
+     *
+     * @return The transparency of the overlay as a {@link Float} value
+     */
+    public float getContentOverlayTransparency() {
+        return contentOverlayTransparency;
+    }
+
+    /**
+     * Returns the elevation of the sidebar.
+     *
+     * @return The elevation of the sidebar in dp as an {@link Integer} value
+     */
+    public int getSidebarElevation() {
+        return sidebarElevation;
+    }
+
+    /**
+     * Returns the maximum number of content views, which are retained in order to be reused.
+     *
+     * @return The maximum number of content views as an {@link Integer} value
+     */
+    public int getContentViewPoolSize() {
+        return contentViewPoolSize;
+    }
+
+}
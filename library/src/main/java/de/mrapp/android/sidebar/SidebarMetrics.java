@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar;
+
+import android.content.Context;
+import android.view.Display;
+import android.view.ViewConfiguration;
+import android.view.WindowManager;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * An immutable snapshot of the display-dependent values, which are used by a {@link Sidebar} to
+ * handle touch events and to animate. The values are obtained once per configuration, so that
+ * handling touch events does not require any conversions.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+final class SidebarMetrics {
+
+    /**
+     * The logical density of the display.
+     */
+    private final float density;
+
+    /**
+     * The distance in pixels, a touch gesture is allowed to move, before it is recognized as a
+     * drag gesture.
+     */
+    private final int touchSlop;
+
+    /**
+     * The duration of a single frame of the display in milliseconds.
+     */
+    private final float frameInterval;
+
+    /**
+     * Creates a new snapshot of the density-dependent values, which are used by a sidebar.
+     *
+     * @param context
+     *         The context, which should be used to obtain the values, as an instance of the class
+     *         {@link Context}. The context may not be null
+     */
+    SidebarMetrics(@NonNull final Context context) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        this.density = context.getResources().getDisplayMetrics().density;
+        this.touchSlop = ViewConfiguration.get(context).getScaledTouchSlop();
+        this.frameInterval = 1000f / obtainRefreshRate(context);
+    }
+
+    /**
+     * Obtains the refresh rate of the default display.
+     *
+     * @param context
+     *         The context, which should be used to obtain the refresh rate, as an instance of the
+     *         class {@link Context}. The context may not be null
+     * @return The refresh rate of the default display in frames per second as a {@link Float}
+     * value. If the refresh rate cannot be obtained, 60 is returned
+     */
+    private static float obtainRefreshRate(@NonNull final Context context) {
+        WindowManager windowManager =
+                (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        Display display = windowManager != null ? windowManager.getDefaultDisplay() : null;
+        float refreshRate = display != null ? display.getRefreshRate() : 0;
+        return refreshRate >= 1 ? refreshRate : 60;
+    }
+
+    /**
+     * Returns the logical density of the display.
+     *
+     * @return The logical density of the display as a {@link Float} value
+     */
+    public float getDensity() {
+        return density;
+    }
+
+    /**
+     * Returns the distance, a touch gesture is allowed to move, before it is recognized as a drag
+     * gesture.
+     *
+     * @return The distance in pixels as an {@link Integer} value
+     */
+    public int getTouchSlop() {
+        return touchSlop;
+    }
+
+    /**
+     * Returns the duration of a single frame of the display.
+     *
+     * @return The duration in milliseconds as a {@link Float} value
+     */
+    public float getFrameInterval() {
+        return frameInterval;
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar;
+
+/**
+ * Defines the interface, a class, which should be notified when a sidebar starts or stops being
+ * dragged or animated, must implement. Each method is invoked exactly once per drag gesture or
+ * animation, which allows to pause expensive work while the sidebar is moving.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public interface SidebarTransitionListener {
+
+    /**
+     * The method, which is invoked, when the user has started to drag the observed sidebar.
+     *
+     * @param sidebar
+     *         The observed sidebar as an instance of the class {@link Sidebar}. The sidebar may not
+     *         be null
+     */
+    void onDragStarted(Sidebar sidebar);
+
+    /**
+     * The method, which is invoked, when the user has stopped to drag the observed sidebar.
+     *
+     * @param sidebar
+     *         The observed sidebar as an instance of the class {@link Sidebar}. The sidebar may not
+     *         be null
+     */
+    void onDragEnded(Sidebar sidebar);
+
+    /**
+     * The method, which is invoked, when an animation, which shows or hides the observed sidebar,
+     * has been started.
+     *
+     * @param sidebar
+     *         The observed sidebar as an instance of the class {@link Sidebar}. The sidebar may not
+     *         be null
+     * @param show
+     *         True, if the animation shows the sidebar, false, if it hides the sidebar
+     */
+    void onTransitionStarted(Sidebar sidebar, boolean show);
+
+    /**
+     * The method, which is invoked, when an animation, which shows or hides the observed sidebar,
+     * has been ended.
+     *
+     * @param sidebar
+     *         The observed sidebar as an instance of the class {@link Sidebar}. The sidebar may not
+     *         be null
+     * @param show
+     *         True, if the animation has shown the sidebar, false, if it has hidden the sidebar
+     */
+    void onTransitionEnded(Sidebar sidebar, boolean show);
+
+}
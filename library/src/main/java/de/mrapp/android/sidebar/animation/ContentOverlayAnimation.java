@@ -17,8 +17,8 @@ import android.view.animation.Animation;
 import android.view.animation.Transformation;
 
 import androidx.annotation.NonNull;
+import de.mrapp.android.sidebar.util.Validation;
 import de.mrapp.android.sidebar.view.ContentView;
-import de.mrapp.util.Condition;
 
 /**
  * An animation, which allows to fade in or out the overlay, which is shown in front of a sidebar's
@@ -66,11 +66,11 @@ public class ContentOverlayAnimation extends Animation {
      */
     public ContentOverlayAnimation(@NonNull final ContentView contentView,
                                    final float overlayTransparency, final boolean show) {
-        Condition.INSTANCE.ensureNotNull(contentView, "The content view may not be null");
-        Condition.INSTANCE
-                .ensureAtLeast(overlayTransparency, 0, "The transparency must be at least 0");
-        Condition.INSTANCE
-                .ensureAtMaximum(overlayTransparency, 1, "The transparency must be at maximum 1");
+        if (Validation.INTERNAL_CHECKS_ENABLED) {
+            Validation.ensureNotNull(contentView, "content view");
+            Validation.ensureInRange(overlayTransparency, 0, 1, "transparency");
+        }
+
         this.contentView = contentView;
         this.overlayTransparency = overlayTransparency;
         this.show = show;
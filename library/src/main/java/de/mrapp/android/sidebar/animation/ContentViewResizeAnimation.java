@@ -19,8 +19,8 @@ import android.view.animation.TranslateAnimation;
 
 import androidx.annotation.NonNull;
 import de.mrapp.android.sidebar.Location;
+import de.mrapp.android.sidebar.util.Validation;
 import de.mrapp.android.sidebar.view.ContentView;
-import de.mrapp.util.Condition;
 
 /**
  * An animation, which allows to resize a sidebar's content view, when the sidebar should be shown
@@ -59,7 +59,11 @@ public class ContentViewResizeAnimation extends AnimationSet {
                                       final float distance, @NonNull final Location location,
                                       final float overlayTransparency, final boolean show) {
         super(true);
-        Condition.INSTANCE.ensureNotNull(location, "The location may not be null");
+
+        if (Validation.INTERNAL_CHECKS_ENABLED) {
+            Validation.ensureNotNull(location, "location");
+        }
+
         setDuration(duration);
 
         Animation overlayAnimation =
@@ -18,8 +18,8 @@ import android.view.animation.AnimationSet;
 import android.view.animation.TranslateAnimation;
 
 import androidx.annotation.NonNull;
+import de.mrapp.android.sidebar.util.Validation;
 import de.mrapp.android.sidebar.view.ContentView;
-import de.mrapp.util.Condition;
 
 /**
  * An animation, which allows to move a sidebar's content view, when the sidebar should be shown or
@@ -60,8 +60,11 @@ public class ContentViewScrollAnimation extends AnimationSet {
                                       final float distance, final float scrollRatio,
                                       final float overlayTransparency, final boolean show) {
         super(true);
-        Condition.INSTANCE.ensureAtLeast(scrollRatio, 0, "The scroll ratio must be at least 0");
-        Condition.INSTANCE.ensureAtMaximum(scrollRatio, 1, "The scroll ratio must be at maximum 1");
+
+        if (Validation.INTERNAL_CHECKS_ENABLED) {
+            Validation.ensureInRange(scrollRatio, 0, 1, "scroll ratio");
+        }
+
         setDuration(duration);
         Animation translateAnimation = new TranslateAnimation(0, distance * scrollRatio, 0, 0);
         addAnimation(translateAnimation);
@@ -18,7 +18,7 @@ import android.view.animation.Animation;
 import android.view.animation.Transformation;
 
 import androidx.annotation.NonNull;
-import de.mrapp.util.Condition;
+import de.mrapp.android.sidebar.util.Validation;
 
 /**
  * An animation, which allows to resize a view horizontally.
@@ -60,7 +60,10 @@ public class ResizeAnimation extends Animation {
      *         width will become increased
      */
     public ResizeAnimation(@NonNull final View view, final float widthOffset) {
-        Condition.INSTANCE.ensureNotNull(view, "The view may not be null");
+        if (Validation.INTERNAL_CHECKS_ENABLED) {
+            Validation.ensureNotNull(view, "view");
+        }
+
         this.view = view;
         this.widthOffset = Math.round(widthOffset);
         this.originalWidth = view.getWidth();
@@ -16,7 +16,7 @@ package de.mrapp.android.sidebar.animation;
 import android.view.animation.TranslateAnimation;
 
 import androidx.annotation.NonNull;
-import de.mrapp.util.Condition;
+import de.mrapp.android.sidebar.util.Validation;
 
 /**
  * An animation, which allows to move a sidebar's sidebar view, when the sidebar should be shown or
@@ -45,7 +45,11 @@ public class SidebarViewAnimation extends TranslateAnimation {
     public SidebarViewAnimation(final float distance, final long duration,
                                 @NonNull final AnimationListener listener) {
         super(0, distance, 0, 0);
-        Condition.INSTANCE.ensureNotNull(listener, "The animation listener may not be null");
+
+        if (Validation.INTERNAL_CHECKS_ENABLED) {
+            Validation.ensureNotNull(listener, "animation listener");
+        }
+
         setDuration(duration);
         setAnimationListener(listener);
     }
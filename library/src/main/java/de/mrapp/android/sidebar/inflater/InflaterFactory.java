@@ -35,7 +35,7 @@ public final class InflaterFactory {
 
     /**
      * Creates and returns an inflater, which allows to inflate view, which are present as an
-     * instance of the class {@link View}.
+     * instance of the class {@link View}. The inflater hands the view over only once.
      *
      * @param view
      *         The view, which should be inflated, as an instance of the class {@link View}. The
@@ -59,4 +59,24 @@ public final class InflaterFactory {
         return new IdInflater(viewId);
     }
 
+    /**
+     * Creates and returns an inflater, which allows to inflate views, which may be referenced by a
+     * specific resource id, in a way that allows them to be retained across the recreation of an
+     * activity.
+     *
+     * @param ownerId
+     *         The id of the view, the inflated view belongs to, as an {@link Integer} value
+     * @param viewId
+     *         The resource id of the view, which should be inflated by the inflater, as an {@link
+     *         Integer} value. The id must correspond to a valid view resource
+     * @param retainer
+     *         The retainer, which should be used to obtain retained views, as an instance of the
+     *         class {@link ViewRetainer}. The retainer may not be null
+     * @return The inflater, which has been created, as an instance of the type {@link Inflater}
+     */
+    public static Inflater createInflater(final int ownerId, final int viewId,
+                                          @NonNull final ViewRetainer retainer) {
+        return new RetainingInflater(ownerId, viewId, retainer);
+    }
+
 }
\ No newline at end of file
@@ -23,7 +23,8 @@ import de.mrapp.util.Condition;
 
 /**
  * An inflater, which allows to inflate views, which are present as an instance of the class {@link
- * View}.
+ * View}. The view is handed over exactly once. Afterwards, the inflater releases its reference to
+ * the view, in order to not prevent it from being garbage collected, once it has been replaced.
  *
  * @author Michael Rapp
  * @since 1.0.0
@@ -31,9 +32,9 @@ import de.mrapp.util.Condition;
 public class InstanceInflater implements Inflater {
 
     /**
-     * The view, which should be inflated.
+     * The view, which should be inflated, or null, if it has already been handed over.
      */
-    private final View view;
+    private View view;
 
     /**
      * Creates a new inflater, which allows to inflate view, which are present as an instance of the
@@ -48,10 +49,31 @@ public class InstanceInflater implements Inflater {
         this.view = view;
     }
 
+    /**
+     * Returns, whether the view has already been handed over, or not.
+     *
+     * @return True, if the view has already been handed over, false otherwise
+     */
+    public final boolean isConsumed() {
+        return view == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException
+     *         If the view has already been handed over
+     */
     @Override
     public final View inflate(@NonNull final Context context, @Nullable final ViewGroup parent,
                               final boolean attachToRoot) {
-        return view;
+        if (view == null) {
+            throw new IllegalStateException("The view has already been inflated");
+        }
+
+        View result = view;
+        view = null;
+        return result;
     }
 
 }
\ No newline at end of file
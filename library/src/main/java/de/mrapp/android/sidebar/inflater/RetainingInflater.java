@@ -0,0 +1,94 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar.inflater;
+
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.IdRes;
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.util.Condition;
+
+/**
+ * An inflater, which allows to inflate views, which may be referenced by a resource id, in a way
+ * that allows them to be retained by a {@link ViewRetainer} across the recreation of an activity.
+ * If a view has been retained for the resource id and the owner of the inflater, it is reused
+ * instead of being inflated again.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public class RetainingInflater implements Inflater {
+
+    /**
+     * The id of the view, the inflated view belongs to.
+     */
+    private final int ownerId;
+
+    /**
+     * The resource id of the view, which should be inflated.
+     */
+    private final int viewId;
+
+    /**
+     * The retainer, which is used to obtain retained views.
+     */
+    private final ViewRetainer retainer;
+
+    /**
+     * Creates a new inflater, which allows to inflate views, which may be referenced by a resource
+     * id, in a way that allows them to be retained across the recreation of an activity.
+     *
+     * @param ownerId
+     *         The id of the view, the inflated view belongs to, as an {@link Integer} value. If
+     *         the id is {@link View#NO_ID}, retained views are not reused
+     * @param viewId
+     *         The resource id of the view, which should be inflated, as an {@link Integer} value.
+     *         The id must correspond to a valid view resource
+     * @param retainer
+     *         The retainer, which should be used to obtain retained views, as an instance of the
+     *         class {@link ViewRetainer}. The retainer may not be null
+     */
+    public RetainingInflater(@IdRes final int ownerId, @LayoutRes final int viewId,
+                             @NonNull final ViewRetainer retainer) {
+        Condition.INSTANCE.ensureNotNull(retainer, "The retainer may not be null");
+        this.ownerId = ownerId;
+        this.viewId = viewId;
+        this.retainer = retainer;
+    }
+
+    @Override
+    public final View inflate(@NonNull final Context context, @Nullable final ViewGroup parent,
+                              final boolean attachToRoot) {
+        View view = retainer.obtain(ownerId, viewId, context);
+
+        if (view == null) {
+            MutableContextWrapper wrapper = new MutableContextWrapper(context);
+            LayoutInflater inflater = LayoutInflater.from(context).cloneInContext(wrapper);
+            view = inflater.inflate(viewId, parent, false);
+        }
+
+        if (attachToRoot && parent != null) {
+            parent.addView(view);
+        }
+
+        return view;
+    }
+
+}
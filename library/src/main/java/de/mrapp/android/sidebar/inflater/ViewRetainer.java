@@ -0,0 +1,277 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar.inflater;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.MutableContextWrapper;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import androidx.annotation.IdRes;
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.util.Condition;
+
+/**
+ * A holder, which allows to retain views, which have been inflated from a layout resource, across
+ * the recreation of an activity, which is caused by a configuration change. This prevents the
+ * views from being inflated again, when the activity is recreated.
+ *
+ * Only views, which have been inflated by a {@link RetainingInflater}, can be retained. Such views
+ * use a {@link MutableContextWrapper} as their context, whose base context is switched to the
+ * application context, while the views are retained, and to the context of the new activity, when
+ * they are obtained again. Therefore, the views do not leak the activity, which has been
+ * destroyed. However, the views must not be referenced by listeners or other objects, which belong
+ * to the destroyed activity.
+ *
+ * The views are identified by the id of the view, they belong to, e.g. a sidebar, and by their
+ * layout resource id. As an activity is destroyed and recreated within the same message of the
+ * main thread, views, which have not been obtained again, once that message has been handled, are
+ * released automatically.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public final class ViewRetainer {
+
+    /**
+     * The single instance of the class.
+     */
+    private static ViewRetainer instance;
+
+    /**
+     * A map, which contains the views, which are currently retained, mapped to keys, which are
+     * composed of the id of their owner and their layout resource id.
+     */
+    private final Map<Long, View> views;
+
+    /**
+     * The handler, which is used to release views, which have not been obtained again.
+     */
+    private final Handler handler;
+
+    /**
+     * The runnable, which releases all views, which have not been obtained again.
+     */
+    private final Runnable releaseRunnable;
+
+    /**
+     * True, if the runnable, which releases all views, which have not been obtained again, has
+     * been posted, false otherwise.
+     */
+    private boolean releasePosted;
+
+    /**
+     * Creates a new holder, which allows to retain views across the recreation of an activity.
+     */
+    private ViewRetainer() {
+        this.views = new HashMap<>();
+        this.handler = new Handler(Looper.getMainLooper());
+        this.releaseRunnable = createReleaseRunnable();
+        this.releasePosted = false;
+    }
+
+    /**
+     * Creates and returns a runnable, which releases all views, which have not been obtained
+     * again.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createReleaseRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                releasePosted = false;
+                clear();
+            }
+
+        };
+    }
+
+    /**
+     * Returns the key, which identifies a view, which belongs to a specific owner and has been
+     * inflated from a specific layout resource.
+     *
+     * @param ownerId
+     *         The id of the view, the view belongs to, as an {@link Integer} value
+     * @param layoutId
+     *         The resource id of the layout, the view has been inflated from, as an {@link Integer}
+     *         value
+     * @return The key as a {@link Long} value
+     */
+    private static long getKey(final int ownerId, final int layoutId) {
+        return ((long) ownerId << 32) | (layoutId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the activity, which belongs to a specific context.
+     *
+     * @param context
+     *         The context as an instance of the class {@link Context}. The context may not be null
+     * @return The activity, which belongs to the given context, as an instance of the class {@link
+     * Activity} or null, if the context does not belong to an activity
+     */
+    @Nullable
+    private static Activity getActivity(@NonNull final Context context) {
+        Context currentContext = context;
+
+        while (currentContext instanceof ContextWrapper) {
+            if (currentContext instanceof Activity) {
+                return (Activity) currentContext;
+            }
+
+            currentContext = ((ContextWrapper) currentContext).getBaseContext();
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the single instance of the class.
+     *
+     * @return The single instance of the class as an instance of the class {@link ViewRetainer}.
+     * The instance may not be null
+     */
+    @NonNull
+    public static synchronized ViewRetainer getInstance() {
+        if (instance == null) {
+            instance = new ViewRetainer();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns, whether the activity, a specific context belongs to, is currently recreated due to
+     * a configuration change, or not.
+     *
+     * @param context
+     *         The context as an instance of the class {@link Context}. The context may not be null
+     * @return True, if the activity, the given context belongs to, is currently recreated due to a
+     * configuration change, false otherwise
+     */
+    public static boolean isChangingConfigurations(@NonNull final Context context) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        Activity activity = getActivity(context);
+        return activity != null && activity.isChangingConfigurations();
+    }
+
+    /**
+     * Retains a specific view, which belongs to a specific owner and has been inflated from a
+     * layout resource. The view is removed from its parent and its context is switched to the
+     * application context, in order to not leak the activity, it has been inflated for. A view,
+     * which has previously been retained for the same owner and layout resource, is replaced. If
+     * the view is not obtained again, before the current message of the main thread has been
+     * handled, it is released.
+     *
+     * @param ownerId
+     *         The id of the view, the view belongs to, as an {@link Integer} value. If the id is
+     *         {@link View#NO_ID}, the view is not retained
+     * @param layoutId
+     *         The resource id of the layout, the view has been inflated from, as an {@link Integer}
+     *         value
+     * @param view
+     *         The view, which should be retained, as an instance of the class {@link View}. The
+     *         view may not be null
+     * @return True, if the view has been retained, false, if its owner does not have an id or if
+     * it has not been inflated by a {@link RetainingInflater} and therefore cannot be retained
+     */
+    public boolean retain(@IdRes final int ownerId, @LayoutRes final int layoutId,
+                          @NonNull final View view) {
+        Condition.INSTANCE.ensureNotNull(view, "The view may not be null");
+
+        if (ownerId != View.NO_ID && view.getContext() instanceof MutableContextWrapper) {
+            ViewParent parent = view.getParent();
+
+            if (parent instanceof ViewGroup) {
+                ((ViewGroup) parent).removeView(view);
+            }
+
+            MutableContextWrapper context = (MutableContextWrapper) view.getContext();
+            context.setBaseContext(context.getApplicationContext());
+            views.put(getKey(ownerId, layoutId), view);
+
+            if (!releasePosted) {
+                releasePosted = true;
+                handler.post(releaseRunnable);
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes and returns the view, which has been retained for a specific owner and layout
+     * resource. The context of the view is switched to a specific context.
+     *
+     * @param ownerId
+     *         The id of the view, the view belongs to, as an {@link Integer} value
+     * @param layoutId
+     *         The resource id of the layout, the view has been inflated from, as an {@link Integer}
+     *         value
+     * @param context
+     *         The context, which should be used by the view, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @return The view, which has been retained for the given owner and layout resource, as an
+     * instance of the class {@link View} or null, if no view has been retained
+     */
+    @Nullable
+    public View obtain(@IdRes final int ownerId, @LayoutRes final int layoutId,
+                       @NonNull final Context context) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        View view = ownerId != View.NO_ID ? views.remove(getKey(ownerId, layoutId)) : null;
+
+        if (view != null) {
+            ((MutableContextWrapper) view.getContext()).setBaseContext(context);
+        }
+
+        return view;
+    }
+
+    /**
+     * Releases the view, which has been retained for a specific owner and layout resource, if
+     * any.
+     *
+     * @param ownerId
+     *         The id of the view, the view belongs to, as an {@link Integer} value
+     * @param layoutId
+     *         The resource id of the layout, the view has been inflated from, as an {@link Integer}
+     *         value
+     */
+    public void release(@IdRes final int ownerId, @LayoutRes final int layoutId) {
+        views.remove(getKey(ownerId, layoutId));
+    }
+
+    /**
+     * Releases all views, which are currently retained.
+     */
+    public void clear() {
+        views.clear();
+    }
+
+}
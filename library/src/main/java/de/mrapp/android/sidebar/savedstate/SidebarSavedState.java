@@ -22,16 +22,204 @@ import androidx.annotation.Nullable;
 import de.mrapp.android.sidebar.ContentMode;
 import de.mrapp.android.sidebar.DragMode;
 import de.mrapp.android.sidebar.Location;
+import de.mrapp.android.sidebar.RenderingProfile;
 import de.mrapp.android.sidebar.Sidebar;
+import de.mrapp.android.sidebar.SidebarConfiguration;
 
 /**
  * A data structure, which allows to save the internal state of a {@link Sidebar}.
  *
+ * The state is written to parcels in a compact format, which starts with a version number. All
+ * enum and boolean values are packed into a single bit field. Numeric values are only written, if
+ * they differ from their default values, which is indicated by another bit field. In order to
+ * evolve the format, new values must be appended after the existing ones and the version must be
+ * increased, so that the values are only read from parcels, which have been written by the new
+ * version.
+ *
  * @author Michael Rapp
  * @since 1.0.0
  */
 public class SidebarSavedState extends BaseSavedState {
 
+    /**
+     * The version of the format, which is used to write the state to parcels.
+     */
+    private static final int VERSION = 3;
+
+    /**
+     * The configuration, which contains the default values, which are not written to parcels.
+     */
+    private static final SidebarConfiguration DEFAULTS =
+            new SidebarConfiguration.Builder().create();
+
+    /**
+     * The position of the bits, which store the location, within the bit field.
+     */
+    private static final int LOCATION_SHIFT = 0;
+
+    /**
+     * The position of the bits, which store the content mode, within the bit field.
+     */
+    private static final int CONTENT_MODE_SHIFT = 1;
+
+    /**
+     * The position of the bits, which store the rendering profile, within the bit field. Added in
+     * version 3.
+     */
+    private static final int RENDERING_PROFILE_SHIFT = 16;
+
+    /**
+     * The mask, which is used to extract the rendering profile from the bit field.
+     */
+    private static final int RENDERING_PROFILE_MASK = 0x3;
+
+    /**
+     * The position of the bits, which store the drag mode, which is used when the sidebar is
+     * hidden, within the bit field.
+     */
+    private static final int DRAG_MODE_WHEN_HIDDEN_SHIFT = 2;
+
+    /**
+     * The position of the bits, which store the drag mode, which is used when the sidebar is
+     * shown, within the bit field.
+     */
+    private static final int DRAG_MODE_WHEN_SHOWN_SHIFT = 5;
+
+    /**
+     * The mask, which is used to extract a drag mode from the bit field.
+     */
+    private static final int DRAG_MODE_MASK = 0x7;
+
+    /**
+     * The flag, which stores the saved value of the attribute "hideOnBackButton".
+     */
+    private static final int HIDE_ON_BACK_BUTTON_FLAG = 1 << 8;
+
+    /**
+     * The flag, which stores the saved value of the attribute "hideOnContentClick".
+     */
+    private static final int HIDE_ON_CONTENT_CLICK_FLAG = 1 << 9;
+
+    /**
+     * The flag, which stores the saved value of the attribute "showOnSidebarClick".
+     */
+    private static final int SHOW_ON_SIDEBAR_CLICK_FLAG = 1 << 10;
+
+    /**
+     * The flag, which stores the saved value of the attribute "deferListenerNotifications".
+     */
+    private static final int DEFER_LISTENER_NOTIFICATIONS_FLAG = 1 << 11;
+
+    /**
+     * The flag, which stores the saved value of the attribute "freezeContentWhenShown".
+     */
+    private static final int FREEZE_CONTENT_WHEN_SHOWN_FLAG = 1 << 12;
+
+    /**
+     * The flag, which stores, whether the sidebar was shown.
+     */
+    private static final int SHOWN_FLAG = 1 << 13;
+
+    /**
+     * The flag, which stores, whether the secondary sidebar was active.
+     */
+    private static final int SECONDARY_SIDEBAR_ACTIVE_FLAG = 1 << 14;
+
+    /**
+     * The flag, which stores, whether an interrupted transition was showing the sidebar. Added in
+     * version 2.
+     */
+    private static final int TRANSITION_SHOW_FLAG = 1 << 15;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "animationSpeed" is written.
+     */
+    private static final int ANIMATION_SPEED_BIT = 1;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "sidebarWidth" is written.
+     */
+    private static final int SIDEBAR_WIDTH_BIT = 1 << 1;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "maxSidebarWidth" is
+     * written.
+     */
+    private static final int MAX_SIDEBAR_WIDTH_BIT = 1 << 2;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "sidebarOffset" is written.
+     */
+    private static final int SIDEBAR_OFFSET_BIT = 1 << 3;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "maxSidebarOffset" is
+     * written.
+     */
+    private static final int MAX_SIDEBAR_OFFSET_BIT = 1 << 4;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "scrollRatio" is written.
+     */
+    private static final int SCROLL_RATIO_BIT = 1 << 5;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "dragThreshold" is written.
+     */
+    private static final int DRAG_THRESHOLD_BIT = 1 << 6;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "dragSensitivity" is
+     * written.
+     */
+    private static final int DRAG_SENSITIVITY_BIT = 1 << 7;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "contentViewPoolSize" is
+     * written.
+     */
+    private static final int CONTENT_VIEW_POOL_SIZE_BIT = 1 << 8;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "edgeWidth" is written.
+     */
+    private static final int EDGE_WIDTH_BIT = 1 << 9;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "edgeMarginTop" is written.
+     */
+    private static final int EDGE_MARGIN_TOP_BIT = 1 << 10;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "edgeMarginBottom" is
+     * written.
+     */
+    private static final int EDGE_MARGIN_BOTTOM_BIT = 1 << 11;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "contentOverlayColor" is
+     * written.
+     */
+    private static final int CONTENT_OVERLAY_COLOR_BIT = 1 << 12;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute
+     * "contentOverlayTransparency" is written.
+     */
+    private static final int CONTENT_OVERLAY_TRANSPARENCY_BIT = 1 << 13;
+
+    /**
+     * The bit, which indicates, that the saved value of the attribute "sidebarElevation" is
+     * written.
+     */
+    private static final int SIDEBAR_ELEVATION_BIT = 1 << 14;
+
+    /**
+     * The bit, which indicates, that the progress of an interrupted transition is written. Added
+     * in version 2.
+     */
+    private static final int TRANSITION_PROGRESS_BIT = 1 << 15;
+
     /**
      * A creator, which allows to create instances of the class {@link SidebarSavedState} from
      * parcels.
@@ -86,6 +274,11 @@ public class SidebarSavedState extends BaseSavedState {
      */
     private ContentMode contentMode;
 
+    /**
+     * The saved value of the attribute "renderingProfile".
+     */
+    private RenderingProfile renderingProfile;
+
     /**
      * The saved value of the attribute "scrollRatio".
      */
@@ -111,6 +304,41 @@ public class SidebarSavedState extends BaseSavedState {
      */
     private DragMode dragModeWhenShown;
 
+    /**
+     * The saved value of the attribute "contentViewPoolSize".
+     */
+    private int contentViewPoolSize;
+
+    /**
+     * True, if the secondary sidebar was active, false otherwise.
+     */
+    private boolean secondarySidebarActive;
+
+    /**
+     * The progress of the transition, which was running, or -1, if no transition was running.
+     */
+    private float transitionProgress = -1;
+
+    /**
+     * True, if the transition, which was running, was showing the sidebar, false otherwise.
+     */
+    private boolean transitionShow;
+
+    /**
+     * The saved value of the attribute "edgeWidth".
+     */
+    private int edgeWidth;
+
+    /**
+     * The saved value of the attribute "edgeMarginTop".
+     */
+    private int edgeMarginTop;
+
+    /**
+     * The saved value of the attribute "edgeMarginBottom".
+     */
+    private int edgeMarginBottom;
+
     /**
      * The saved value of the attribute "hideOnBackButton".
      */
@@ -126,6 +354,16 @@ public class SidebarSavedState extends BaseSavedState {
      */
     private boolean showOnSidebarClick;
 
+    /**
+     * The saved value of the attribute "deferListenerNotifications".
+     */
+    private boolean deferListenerNotifications;
+
+    /**
+     * The saved value of the attribute "freezeContentWhenShown".
+     */
+    private boolean freezeContentWhenShown;
+
     /**
      * The saved value of the attribute "contentOverlayColor".
      */
@@ -168,25 +406,66 @@ public class SidebarSavedState extends BaseSavedState {
      */
     private SidebarSavedState(@NonNull final Parcel source) {
         super(source);
-        location = Location.fromValue(source.readInt());
-        animationSpeed = source.readFloat();
-        sidebarWidth = source.readFloat();
-        maxSidebarWidth = source.readInt();
-        sidebarOffset = source.readFloat();
-        maxSidebarOffset = source.readInt();
-        contentMode = ContentMode.fromValue(source.readInt());
-        scrollRatio = source.readFloat();
-        dragThreshold = source.readFloat();
-        dragSensitivity = source.readFloat();
-        dragModeWhenHidden = DragMode.fromValue(source.readInt());
-        dragModeWhenShown = DragMode.fromValue(source.readInt());
-        hideOnBackButton = source.readByte() != 0;
-        hideOnContentClick = source.readByte() != 0;
-        showOnSidebarClick = source.readByte() != 0;
-        contentOverlayColor = source.readInt();
-        contentOverlayTransparency = source.readFloat();
-        sidebarElevation = source.readInt();
-        shown = source.readByte() != 0;
+        int version = source.readInt();
+
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported version: " + version);
+        }
+
+        int flags = source.readInt();
+        location = Location.fromValue((flags >> LOCATION_SHIFT) & 1);
+        contentMode = ContentMode.fromValue((flags >> CONTENT_MODE_SHIFT) & 1);
+        renderingProfile = version >= 3 ? RenderingProfile
+                .fromValue((flags >> RENDERING_PROFILE_SHIFT) & RENDERING_PROFILE_MASK) :
+                DEFAULTS.getRenderingProfile();
+        dragModeWhenHidden = DragMode.fromValue(
+                (flags >> DRAG_MODE_WHEN_HIDDEN_SHIFT) & DRAG_MODE_MASK);
+        dragModeWhenShown = DragMode.fromValue(
+                (flags >> DRAG_MODE_WHEN_SHOWN_SHIFT) & DRAG_MODE_MASK);
+        hideOnBackButton = (flags & HIDE_ON_BACK_BUTTON_FLAG) != 0;
+        hideOnContentClick = (flags & HIDE_ON_CONTENT_CLICK_FLAG) != 0;
+        showOnSidebarClick = (flags & SHOW_ON_SIDEBAR_CLICK_FLAG) != 0;
+        deferListenerNotifications = (flags & DEFER_LISTENER_NOTIFICATIONS_FLAG) != 0;
+        freezeContentWhenShown = (flags & FREEZE_CONTENT_WHEN_SHOWN_FLAG) != 0;
+        shown = (flags & SHOWN_FLAG) != 0;
+        secondarySidebarActive = (flags & SECONDARY_SIDEBAR_ACTIVE_FLAG) != 0;
+        transitionShow = (flags & TRANSITION_SHOW_FLAG) != 0;
+        int mask = source.readInt();
+        animationSpeed = (mask & ANIMATION_SPEED_BIT) != 0 ? source.readFloat() :
+                DEFAULTS.getAnimationSpeed();
+        sidebarWidth = (mask & SIDEBAR_WIDTH_BIT) != 0 ? source.readFloat() :
+                DEFAULTS.getSidebarWidth();
+        maxSidebarWidth = (mask & MAX_SIDEBAR_WIDTH_BIT) != 0 ? source.readInt() :
+                DEFAULTS.getMaxSidebarWidth();
+        sidebarOffset = (mask & SIDEBAR_OFFSET_BIT) != 0 ? source.readFloat() :
+                DEFAULTS.getSidebarOffset();
+        maxSidebarOffset = (mask & MAX_SIDEBAR_OFFSET_BIT) != 0 ? source.readInt() :
+                DEFAULTS.getMaxSidebarOffset();
+        scrollRatio = (mask & SCROLL_RATIO_BIT) != 0 ? source.readFloat() :
+                DEFAULTS.getScrollRatio();
+        dragThreshold = (mask & DRAG_THRESHOLD_BIT) != 0 ? source.readFloat() :
+                DEFAULTS.getDragThreshold();
+        dragSensitivity = (mask & DRAG_SENSITIVITY_BIT) != 0 ? source.readFloat() :
+                DEFAULTS.getDragSensitivity();
+        contentViewPoolSize = (mask & CONTENT_VIEW_POOL_SIZE_BIT) != 0 ? source.readInt() :
+                DEFAULTS.getContentViewPoolSize();
+        edgeWidth = (mask & EDGE_WIDTH_BIT) != 0 ? source.readInt() : DEFAULTS.getEdgeWidth();
+        edgeMarginTop = (mask & EDGE_MARGIN_TOP_BIT) != 0 ? source.readInt() :
+                DEFAULTS.getEdgeMarginTop();
+        edgeMarginBottom = (mask & EDGE_MARGIN_BOTTOM_BIT) != 0 ? source.readInt() :
+                DEFAULTS.getEdgeMarginBottom();
+        contentOverlayColor = (mask & CONTENT_OVERLAY_COLOR_BIT) != 0 ? source.readInt() :
+                DEFAULTS.getContentOverlayColor();
+        contentOverlayTransparency =
+                (mask & CONTENT_OVERLAY_TRANSPARENCY_BIT) != 0 ? source.readFloat() :
+                        DEFAULTS.getContentOverlayTransparency();
+        sidebarElevation = (mask & SIDEBAR_ELEVATION_BIT) != 0 ? source.readInt() :
+                DEFAULTS.getSidebarElevation();
+
+        if (version >= 2) {
+            transitionProgress =
+                    (mask & TRANSITION_PROGRESS_BIT) != 0 ? source.readFloat() : -1;
+        }
     }
 
     /**
@@ -330,6 +609,27 @@ public class SidebarSavedState extends BaseSavedState {
         this.contentMode = contentMode;
     }
 
+    /**
+     * Returns the saved value of the attribute "renderingProfile".
+     *
+     * @return The saved value of the attribute "renderingProfile" as a value of the enum {@link
+     * RenderingProfile}
+     */
+    public final RenderingProfile getRenderingProfile() {
+        return renderingProfile;
+    }
+
+    /**
+     * Sets the saved value of the attribute "renderingProfile".
+     *
+     * @param renderingProfile
+     *         The saved value of the attribute "renderingProfile", which should be set, as a value
+     *         of the enum {@link RenderingProfile}
+     */
+    public final void setRenderingProfile(final RenderingProfile renderingProfile) {
+        this.renderingProfile = renderingProfile;
+    }
+
     /**
      * Returns the saved value of the attribute "scrollRatio".
      *
@@ -432,6 +732,145 @@ public class SidebarSavedState extends BaseSavedState {
         this.dragModeWhenShown = dragModeWhenShown;
     }
 
+    /**
+     * Returns the saved value of the attribute "contentViewPoolSize".
+     *
+     * @return The saved value of the attribute "contentViewPoolSize" as an {@link Integer} value
+     */
+    public final int getContentViewPoolSize() {
+        return contentViewPoolSize;
+    }
+
+    /**
+     * Sets the saved value of the attribute "contentViewPoolSize".
+     *
+     * @param contentViewPoolSize
+     *         The saved value of the attribute "contentViewPoolSize", which should be set, as an
+     *         {@link Integer} value
+     */
+    public final void setContentViewPoolSize(final int contentViewPoolSize) {
+        this.contentViewPoolSize = contentViewPoolSize;
+    }
+
+    /**
+     * Returns, whether the secondary sidebar was active, or not.
+     *
+     * @return True, if the secondary sidebar was active, false otherwise
+     */
+    public final boolean isSecondarySidebarActive() {
+        return secondarySidebarActive;
+    }
+
+    /**
+     * Sets, whether the secondary sidebar was active, or not.
+     *
+     * @param secondarySidebarActive
+     *         True, if the secondary sidebar was active, false otherwise
+     */
+    public final void setSecondarySidebarActive(final boolean secondarySidebarActive) {
+        this.secondarySidebarActive = secondarySidebarActive;
+    }
+
+    /**
+     * Returns the progress of the transition, which was running.
+     *
+     * @return The progress of the transition, which was running, as a {@link Float} value between
+     * 0 (hidden) and 1 (shown) or -1, if no transition was running
+     */
+    public final float getTransitionProgress() {
+        return transitionProgress;
+    }
+
+    /**
+     * Sets the progress of the transition, which was running.
+     *
+     * @param transitionProgress
+     *         The progress, which should be set, as a {@link Float} value between 0 (hidden) and 1
+     *         (shown) or -1, if no transition was running
+     */
+    public final void setTransitionProgress(final float transitionProgress) {
+        this.transitionProgress = transitionProgress;
+    }
+
+    /**
+     * Returns, whether the transition, which was running, was showing the sidebar, or not.
+     *
+     * @return True, if the transition, which was running, was showing the sidebar, false otherwise
+     */
+    public final boolean isTransitionShow() {
+        return transitionShow;
+    }
+
+    /**
+     * Sets, whether the transition, which was running, was showing the sidebar, or not.
+     *
+     * @param transitionShow
+     *         True, if the transition, which was running, was showing the sidebar, false otherwise
+     */
+    public final void setTransitionShow(final boolean transitionShow) {
+        this.transitionShow = transitionShow;
+    }
+
+    /**
+     * Returns the saved value of the attribute "edgeWidth".
+     *
+     * @return The saved value of the attribute "edgeWidth" as an {@link Integer} value
+     */
+    public final int getEdgeWidth() {
+        return edgeWidth;
+    }
+
+    /**
+     * Sets the saved value of the attribute "edgeWidth".
+     *
+     * @param edgeWidth
+     *         The saved value of the attribute "edgeWidth", which should be set, as an {@link
+     *         Integer} value
+     */
+    public final void setEdgeWidth(final int edgeWidth) {
+        this.edgeWidth = edgeWidth;
+    }
+
+    /**
+     * Returns the saved value of the attribute "edgeMarginTop".
+     *
+     * @return The saved value of the attribute "edgeMarginTop" as an {@link Integer} value
+     */
+    public final int getEdgeMarginTop() {
+        return edgeMarginTop;
+    }
+
+    /**
+     * Sets the saved value of the attribute "edgeMarginTop".
+     *
+     * @param edgeMarginTop
+     *         The saved value of the attribute "edgeMarginTop", which should be set, as an {@link
+     *         Integer} value
+     */
+    public final void setEdgeMarginTop(final int edgeMarginTop) {
+        this.edgeMarginTop = edgeMarginTop;
+    }
+
+    /**
+     * Returns the saved value of the attribute "edgeMarginBottom".
+     *
+     * @return The saved value of the attribute "edgeMarginBottom" as an {@link Integer} value
+     */
+    public final int getEdgeMarginBottom() {
+        return edgeMarginBottom;
+    }
+
+    /**
+     * Sets the saved value of the attribute "edgeMarginBottom".
+     *
+     * @param edgeMarginBottom
+     *         The saved value of the attribute "edgeMarginBottom", which should be set, as an
+     *         {@link Integer} value
+     */
+    public final void setEdgeMarginBottom(final int edgeMarginBottom) {
+        this.edgeMarginBottom = edgeMarginBottom;
+    }
+
     /**
      * Returns the saved value of the attribute "hideOnBackButton".
      *
@@ -492,6 +931,47 @@ public class SidebarSavedState extends BaseSavedState {
         this.showOnSidebarClick = showOnSidebarClick;
     }
 
+    /**
+     * Returns the saved value of the attribute "deferListenerNotifications".
+     *
+     * @return The saved value of the attribute "deferListenerNotifications" as a {@link Boolean}
+     * value
+     */
+    public final boolean isDeferListenerNotifications() {
+        return deferListenerNotifications;
+    }
+
+    /**
+     * Sets the saved value of the attribute "deferListenerNotifications".
+     *
+     * @param deferListenerNotifications
+     *         The saved value of the attribute "deferListenerNotifications", which should be set,
+     *         as a {@link Boolean} value
+     */
+    public final void setDeferListenerNotifications(final boolean deferListenerNotifications) {
+        this.deferListenerNotifications = deferListenerNotifications;
+    }
+
+    /**
+     * Returns the saved value of the attribute "freezeContentWhenShown".
+     *
+     * @return The saved value of the attribute "freezeContentWhenShown" as a {@link Boolean} value
+     */
+    public final boolean isFreezeContentWhenShown() {
+        return freezeContentWhenShown;
+    }
+
+    /**
+     * Sets the saved value of the attribute "freezeContentWhenShown".
+     *
+     * @param freezeContentWhenShown
+     *         The saved value of the attribute "freezeContentWhenShown", which should be set, as a
+     *         {@link Boolean} value
+     */
+    public final void setFreezeContentWhenShown(final boolean freezeContentWhenShown) {
+        this.freezeContentWhenShown = freezeContentWhenShown;
+    }
+
     /**
      * Returns the saved value of the attribute "contentOverlayColor".
      *
@@ -576,25 +1056,111 @@ public class SidebarSavedState extends BaseSavedState {
     @Override
     public final void writeToParcel(final Parcel destination, final int flags) {
         super.writeToParcel(destination, flags);
-        destination.writeInt(location.getValue());
-        destination.writeFloat(animationSpeed);
-        destination.writeFloat(sidebarWidth);
-        destination.writeInt(maxSidebarWidth);
-        destination.writeFloat(sidebarOffset);
-        destination.writeInt(maxSidebarOffset);
-        destination.writeInt(contentMode.getValue());
-        destination.writeFloat(scrollRatio);
-        destination.writeFloat(dragThreshold);
-        destination.writeFloat(dragSensitivity);
-        destination.writeInt(dragModeWhenHidden.getValue());
-        destination.writeInt(dragModeWhenShown.getValue());
-        destination.writeByte((byte) (hideOnBackButton ? 1 : 0));
-        destination.writeByte((byte) (hideOnContentClick ? 1 : 0));
-        destination.writeByte((byte) (showOnSidebarClick ? 1 : 0));
-        destination.writeInt(contentOverlayColor);
-        destination.writeFloat(contentOverlayTransparency);
-        destination.writeInt(sidebarElevation);
-        destination.writeByte((byte) (shown ? 1 : 0));
+        destination.writeInt(VERSION);
+        destination.writeInt((location.getValue() << LOCATION_SHIFT) |
+                (contentMode.getValue() << CONTENT_MODE_SHIFT) |
+                (renderingProfile.getValue() << RENDERING_PROFILE_SHIFT) |
+                (dragModeWhenHidden.getValue() << DRAG_MODE_WHEN_HIDDEN_SHIFT) |
+                (dragModeWhenShown.getValue() << DRAG_MODE_WHEN_SHOWN_SHIFT) |
+                (hideOnBackButton ? HIDE_ON_BACK_BUTTON_FLAG : 0) |
+                (hideOnContentClick ? HIDE_ON_CONTENT_CLICK_FLAG : 0) |
+                (showOnSidebarClick ? SHOW_ON_SIDEBAR_CLICK_FLAG : 0) |
+                (deferListenerNotifications ? DEFER_LISTENER_NOTIFICATIONS_FLAG : 0) |
+                (freezeContentWhenShown ? FREEZE_CONTENT_WHEN_SHOWN_FLAG : 0) |
+                (shown ? SHOWN_FLAG : 0) |
+                (secondarySidebarActive ? SECONDARY_SIDEBAR_ACTIVE_FLAG : 0) |
+                (transitionShow ? TRANSITION_SHOW_FLAG : 0));
+        int mask = 0;
+        mask |= Float.compare(animationSpeed, DEFAULTS.getAnimationSpeed()) != 0 ?
+                ANIMATION_SPEED_BIT : 0;
+        mask |= Float.compare(sidebarWidth, DEFAULTS.getSidebarWidth()) != 0 ?
+                SIDEBAR_WIDTH_BIT : 0;
+        mask |= maxSidebarWidth != DEFAULTS.getMaxSidebarWidth() ? MAX_SIDEBAR_WIDTH_BIT : 0;
+        mask |= Float.compare(sidebarOffset, DEFAULTS.getSidebarOffset()) != 0 ?
+                SIDEBAR_OFFSET_BIT : 0;
+        mask |= maxSidebarOffset != DEFAULTS.getMaxSidebarOffset() ? MAX_SIDEBAR_OFFSET_BIT : 0;
+        mask |= Float.compare(scrollRatio, DEFAULTS.getScrollRatio()) != 0 ? SCROLL_RATIO_BIT : 0;
+        mask |= Float.compare(dragThreshold, DEFAULTS.getDragThreshold()) != 0 ?
+                DRAG_THRESHOLD_BIT : 0;
+        mask |= Float.compare(dragSensitivity, DEFAULTS.getDragSensitivity()) != 0 ?
+                DRAG_SENSITIVITY_BIT : 0;
+        mask |= contentViewPoolSize != DEFAULTS.getContentViewPoolSize() ?
+                CONTENT_VIEW_POOL_SIZE_BIT : 0;
+        mask |= edgeWidth != DEFAULTS.getEdgeWidth() ? EDGE_WIDTH_BIT : 0;
+        mask |= edgeMarginTop != DEFAULTS.getEdgeMarginTop() ? EDGE_MARGIN_TOP_BIT : 0;
+        mask |= edgeMarginBottom != DEFAULTS.getEdgeMarginBottom() ? EDGE_MARGIN_BOTTOM_BIT : 0;
+        mask |= contentOverlayColor != DEFAULTS.getContentOverlayColor() ?
+                CONTENT_OVERLAY_COLOR_BIT : 0;
+        mask |= Float.compare(contentOverlayTransparency,
+                DEFAULTS.getContentOverlayTransparency()) != 0 ?
+                CONTENT_OVERLAY_TRANSPARENCY_BIT : 0;
+        mask |= sidebarElevation != DEFAULTS.getSidebarElevation() ? SIDEBAR_ELEVATION_BIT : 0;
+        mask |= transitionProgress >= 0 ? TRANSITION_PROGRESS_BIT : 0;
+        destination.writeInt(mask);
+
+        if ((mask & ANIMATION_SPEED_BIT) != 0) {
+            destination.writeFloat(animationSpeed);
+        }
+
+        if ((mask & SIDEBAR_WIDTH_BIT) != 0) {
+            destination.writeFloat(sidebarWidth);
+        }
+
+        if ((mask & MAX_SIDEBAR_WIDTH_BIT) != 0) {
+            destination.writeInt(maxSidebarWidth);
+        }
+
+        if ((mask & SIDEBAR_OFFSET_BIT) != 0) {
+            destination.writeFloat(sidebarOffset);
+        }
+
+        if ((mask & MAX_SIDEBAR_OFFSET_BIT) != 0) {
+            destination.writeInt(maxSidebarOffset);
+        }
+
+        if ((mask & SCROLL_RATIO_BIT) != 0) {
+            destination.writeFloat(scrollRatio);
+        }
+
+        if ((mask & DRAG_THRESHOLD_BIT) != 0) {
+            destination.writeFloat(dragThreshold);
+        }
+
+        if ((mask & DRAG_SENSITIVITY_BIT) != 0) {
+            destination.writeFloat(dragSensitivity);
+        }
+
+        if ((mask & CONTENT_VIEW_POOL_SIZE_BIT) != 0) {
+            destination.writeInt(contentViewPoolSize);
+        }
+
+        if ((mask & EDGE_WIDTH_BIT) != 0) {
+            destination.writeInt(edgeWidth);
+        }
+
+        if ((mask & EDGE_MARGIN_TOP_BIT) != 0) {
+            destination.writeInt(edgeMarginTop);
+        }
+
+        if ((mask & EDGE_MARGIN_BOTTOM_BIT) != 0) {
+            destination.writeInt(edgeMarginBottom);
+        }
+
+        if ((mask & CONTENT_OVERLAY_COLOR_BIT) != 0) {
+            destination.writeInt(contentOverlayColor);
+        }
+
+        if ((mask & CONTENT_OVERLAY_TRANSPARENCY_BIT) != 0) {
+            destination.writeFloat(contentOverlayTransparency);
+        }
+
+        if ((mask & SIDEBAR_ELEVATION_BIT) != 0) {
+            destination.writeInt(sidebarElevation);
+        }
+
+        if ((mask & TRANSITION_PROGRESS_BIT) != 0) {
+            destination.writeFloat(transitionProgress);
+        }
     }
 
 }
\ No newline at end of file
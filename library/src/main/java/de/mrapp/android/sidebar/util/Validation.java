@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A utility class, which provides methods, which allow to validate arguments. Unlike the methods
+ * of the class {@link de.mrapp.util.Condition}, the messages of the exceptions, which are thrown,
+ * if an argument is invalid, are only built, if the validation fails. This avoids building
+ * messages, which contain the bounds of a valid range, on every call.
+ *
+ * Arguments of internal classes, which are instantiated for each transition, such as animations,
+ * are only validated, if the flag {@link #INTERNAL_CHECKS_ENABLED} is set. It is set by the system
+ * property <code>de.mrapp.android.sidebar.internalChecks</code>, which must be set to
+ * <code>true</code>, before the class is loaded, e.g. in a debug build of an app. As the flag is a
+ * constant, the runtime's compiler removes the checks, if they are disabled.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public final class Validation {
+
+    /**
+     * True, if the arguments of internal classes, which are instantiated for each transition,
+     * should be validated, false otherwise.
+     */
+    public static final boolean INTERNAL_CHECKS_ENABLED =
+            Boolean.getBoolean("de.mrapp.android.sidebar.internalChecks");
+
+    /**
+     * Creates a new utility class, which provides methods, which allow to validate arguments.
+     */
+    private Validation() {
+
+    }
+
+    /**
+     * Ensures, that a specific object is not null.
+     *
+     * @param object
+     *         The object, which should be validated, as an instance of the class {@link Object}
+     * @param name
+     *         The name of the object, which is used in the message of the exception, which is
+     *         thrown, if the object is null, as a {@link String}. The name may not be null
+     * @throws NullPointerException
+     *         If the object is null
+     */
+    public static void ensureNotNull(@Nullable final Object object, @NonNull final String name) {
+        if (object == null) {
+            throw new NullPointerException("The " + name + " may not be null");
+        }
+    }
+
+    /**
+     * Ensures, that a specific {@link Integer} value is within a specific range.
+     *
+     * @param value
+     *         The value, which should be validated, as an {@link Integer} value
+     * @param minimum
+     *         The minimum, the value must be at least, as an {@link Integer} value
+     * @param maximum
+     *         The maximum, the value must be at maximum, as an {@link Integer} value
+     * @param name
+     *         The name of the value, which is used in the message of the exception, which is
+     *         thrown, if the value is invalid, as a {@link String}. The name may not be null
+     * @throws IllegalArgumentException
+     *         If the value is less than the minimum or greater than the maximum
+     */
+    public static void ensureInRange(final int value, final int minimum, final int maximum,
+                                     @NonNull final String name) {
+        if (value < minimum || value > maximum) {
+            throw new IllegalArgumentException(
+                    "The " + name + " must be at least " + minimum + " and at maximum " +
+                            maximum);
+        }
+    }
+
+    /**
+     * Ensures, that a specific {@link Float} value is within a specific range.
+     *
+     * @param value
+     *         The value, which should be validated, as a {@link Float} value
+     * @param minimum
+     *         The minimum, the value must be at least, as a {@link Float} value
+     * @param maximum
+     *         The maximum, the value must be at maximum, as a {@link Float} value
+     * @param name
+     *         The name of the value, which is used in the message of the exception, which is
+     *         thrown, if the value is invalid, as a {@link String}. The name may not be null
+     * @throws IllegalArgumentException
+     *         If the value is less than the minimum, greater than the maximum or not a number
+     */
+    public static void ensureInRange(final float value, final float minimum, final float maximum,
+                                     @NonNull final String name) {
+        if (!(value >= minimum && value <= maximum)) {
+            throw new IllegalArgumentException(
+                    "The " + name + " must be at least " + minimum + " and at maximum " +
+                            maximum);
+        }
+    }
+
+}
@@ -15,9 +15,13 @@ package de.mrapp.android.sidebar.view;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.view.SurfaceView;
+import android.view.TextureView;
 import android.view.View;
 import android.view.ViewGroup;
-import android.view.animation.AlphaAnimation;
 import android.widget.FrameLayout;
 
 import androidx.annotation.ColorInt;
@@ -41,7 +45,8 @@ public class ContentView extends FrameLayout {
     private View contentView;
 
     /**
-     * The view, which is used as an overlay of the content view.
+     * The view, which is used as an overlay of the content view, or null, if the overlay has not
+     * been shown yet.
      */
     private View overlayView;
 
@@ -55,6 +60,24 @@ public class ContentView extends FrameLayout {
      */
     private int overlayColor;
 
+    /**
+     * The bitmap, which contains a snapshot of the content view, which is drawn instead of the
+     * content view, while it is frozen, or null, if no snapshot has been taken yet. The bitmap is
+     * reused, when the content view is frozen again.
+     */
+    private Bitmap snapshot;
+
+    /**
+     * The canvas, which is used to draw the content view into the snapshot, or null, if no
+     * snapshot has been taken yet.
+     */
+    private Canvas snapshotCanvas;
+
+    /**
+     * True, if the content view is currently frozen, false otherwise.
+     */
+    private boolean frozen;
+
     /**
      * Inflates the content view.
      *
@@ -69,12 +92,22 @@ public class ContentView extends FrameLayout {
     }
 
     /**
-     * Inflates the view, which is used as an overlay of the content view.
+     * Inflates the view, which is used as an overlay of the content view. The view is inflated
+     * lazily. It is added without requesting a new layout pass and is measured and laid out
+     * immediately, if the content view has already been laid out.
      */
     private void inflateOverlayView() {
         overlayView = new View(getContext());
-        addView(overlayView, ViewGroup.LayoutParams.MATCH_PARENT,
-                ViewGroup.LayoutParams.MATCH_PARENT);
+        overlayView.setBackgroundColor(overlayColor);
+        overlayView.setVisibility(View.INVISIBLE);
+        addViewInLayout(overlayView, -1, new LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.MATCH_PARENT), true);
+
+        if (getWidth() > 0 && getHeight() > 0) {
+            overlayView.measure(MeasureSpec.makeMeasureSpec(getWidth(), MeasureSpec.EXACTLY),
+                    MeasureSpec.makeMeasureSpec(getHeight(), MeasureSpec.EXACTLY));
+            overlayView.layout(0, 0, getWidth(), getHeight());
+        }
     }
 
     /**
@@ -95,7 +128,6 @@ public class ContentView extends FrameLayout {
         super(context, null);
         Condition.INSTANCE.ensureNotNull(inflater, "The inflater may not be null");
         inflateContentView(inflater);
-        inflateOverlayView();
         setOverlayColor(overlayColor);
         setOverlayTransparency(0.0f);
     }
@@ -120,10 +152,27 @@ public class ContentView extends FrameLayout {
      */
     public final void setOverlayTransparency(final float transparency) {
         this.overlayTransparency = transparency;
-        AlphaAnimation animation = new AlphaAnimation(transparency, transparency);
-        animation.setDuration(0);
-        animation.setFillAfter(true);
-        overlayView.startAnimation(animation);
+
+        if (overlayView == null && transparency > 0) {
+            inflateOverlayView();
+        }
+
+        if (overlayView != null) {
+            overlayView.setAlpha(transparency);
+            overlayView.setVisibility(transparency > 0 ? View.VISIBLE : View.INVISIBLE);
+        }
+    }
+
+    /**
+     * Creates the view, which is used as an overlay of the content view, if it has not been
+     * created yet. This method should be called, before a transition or drag gesture, which shows
+     * the overlay, is started, in order to prevent the view from being created while drawing or
+     * laying out the content view.
+     */
+    public final void prepareOverlay() {
+        if (overlayView == null) {
+            inflateOverlayView();
+        }
     }
 
     /**
@@ -143,7 +192,120 @@ public class ContentView extends FrameLayout {
      */
     public final void setOverlayColor(@ColorInt final int overlayColor) {
         this.overlayColor = overlayColor;
-        overlayView.setBackgroundColor(overlayColor);
+
+        if (overlayView != null) {
+            overlayView.setBackgroundColor(overlayColor);
+        }
+    }
+
+    /**
+     * Returns, whether the content view is currently frozen, or not.
+     *
+     * @return True, if the content view is currently frozen, false otherwise
+     */
+    public final boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Returns, whether a specific view is, or contains, a view, whose content is not drawn by the
+     * view hierarchy and can therefore not be captured in a snapshot, or not.
+     *
+     * @param view
+     *         The view as an instance of the class {@link View}. The view may not be null
+     * @return True, if the given view is, or contains, a view, whose content can not be captured
+     * in a snapshot, false otherwise
+     */
+    private static boolean containsSurface(@NonNull final View view) {
+        if (view instanceof SurfaceView || view instanceof TextureView) {
+            return true;
+        } else if (view instanceof ViewGroup) {
+            ViewGroup viewGroup = (ViewGroup) view;
+
+            for (int i = 0; i < viewGroup.getChildCount(); i++) {
+                if (containsSurface(viewGroup.getChildAt(i))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Draws the content view into the snapshot. The bitmap of a previous snapshot is reused, if
+     * it has the size of the content view.
+     *
+     * @return True, if the content view has been drawn into the snapshot, false, if it cannot be
+     * drawn in software, e.g. because it contains hardware bitmaps
+     */
+    private boolean takeSnapshot() {
+        int width = contentView.getWidth();
+        int height = contentView.getHeight();
+
+        if (snapshot == null || snapshot.getWidth() != width || snapshot.getHeight() != height) {
+            releaseSnapshot();
+            snapshot = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            snapshotCanvas = new Canvas(snapshot);
+        } else {
+            snapshot.eraseColor(Color.TRANSPARENT);
+        }
+
+        int saveCount = snapshotCanvas.save();
+        snapshotCanvas.translate(-contentView.getScrollX(), -contentView.getScrollY());
+
+        try {
+            contentView.draw(snapshotCanvas);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        } finally {
+            snapshotCanvas.restoreToCount(saveCount);
+        }
+    }
+
+    /**
+     * Freezes the content view. A snapshot of the content view is drawn instead of the content view
+     * itself, which is made invisible. This causes the content view and its children to be notified
+     * about the visibility change, which allows them to pause animations or other expensive work.
+     * If the content view has not been laid out yet, if it contains a {@link SurfaceView} or
+     * {@link TextureView}, or if it cannot be drawn in software, e.g. because it contains hardware
+     * bitmaps, it is not frozen.
+     */
+    public final void freeze() {
+        if (!frozen && contentView.getWidth() > 0 && contentView.getHeight() > 0 &&
+                !containsSurface(contentView) && takeSnapshot()) {
+            frozen = true;
+            contentView.setVisibility(View.INVISIBLE);
+            invalidate();
+        }
+    }
+
+    /**
+     * Unfreezes the content view, if it is currently frozen. The content view is made visible
+     * again. The bitmap of the snapshot, which has been drawn instead, is kept in order to be
+     * reused, when the content view is frozen again.
+     */
+    public final void unfreeze() {
+        if (frozen) {
+            frozen = false;
+            contentView.setVisibility(View.VISIBLE);
+            invalidate();
+        }
+    }
+
+    /**
+     * Unfreezes the content view, if it is currently frozen, and releases the bitmap, which is
+     * used to store snapshots of the content view.
+     */
+    public final void releaseSnapshot() {
+        unfreeze();
+
+        if (snapshot != null) {
+            snapshot.recycle();
+            snapshot = null;
+            snapshotCanvas = null;
+        }
     }
 
     /**
@@ -156,4 +318,25 @@ public class ContentView extends FrameLayout {
         return contentView;
     }
 
-}
\ No newline at end of file
+    @Override
+    protected final void onSizeChanged(final int w, final int h, final int oldw, final int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        releaseSnapshot();
+    }
+
+    @Override
+    protected final void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        releaseSnapshot();
+    }
+
+    @Override
+    protected final void dispatchDraw(final Canvas canvas) {
+        if (frozen) {
+            canvas.drawBitmap(snapshot, contentView.getLeft(), contentView.getTop(), null);
+        }
+
+        super.dispatchDraw(canvas);
+    }
+
+}
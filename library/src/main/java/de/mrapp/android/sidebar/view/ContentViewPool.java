@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar.view;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.LruCache;
+import de.mrapp.util.Condition;
+
+/**
+ * A pool, which allows to retain content views of a sidebar, which are currently not shown, in
+ * order to reuse them instead of inflating them again. The pool is bounded and evicts the least
+ * recently used content views, if its capacity is exceeded.
+ *
+ * @author Michael Rapp
+ * @since 3.1.0
+ */
+public class ContentViewPool {
+
+    /**
+     * The cache, which contains the retained content views.
+     */
+    private final LruCache<Object, ContentView> cache;
+
+    /**
+     * Creates a new pool, which allows to retain content views of a sidebar, which are currently
+     * not shown.
+     *
+     * @param maxSize
+     *         The maximum number of content views, which should be retained by the pool, as an
+     *         {@link Integer} value. The maximum number must be greater than 0
+     */
+    public ContentViewPool(final int maxSize) {
+        Condition.INSTANCE.ensureGreater(maxSize, 0, "The maximum size must be greater than 0");
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /**
+     * Removes and returns the content view, which corresponds to a specific key, from the pool.
+     *
+     * @param key
+     *         The key of the content view, which should be returned, as an instance of the class
+     *         {@link Object}. The key may not be null
+     * @return The content view, which corresponds to the given key, as an instance of the class
+     * {@link ContentView} or null, if the pool does not contain a corresponding content view
+     */
+    @Nullable
+    public final ContentView obtain(@NonNull final Object key) {
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+        return cache.remove(key);
+    }
+
+    /**
+     * Adds a content view, which is not shown anymore, to the pool. If the pool already contains a
+     * content view with the same key, it is replaced. If the capacity of the pool is exceeded, the
+     * least recently used content view is evicted.
+     *
+     * @param key
+     *         The key of the content view, which should be added, as an instance of the class
+     *         {@link Object}. The key may not be null
+     * @param contentView
+     *         The content view, which should be added, as an instance of the class {@link
+     *         ContentView}. The content view may not be null and must not have a parent
+     */
+    public final void recycle(@NonNull final Object key, @NonNull final ContentView contentView) {
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+        Condition.INSTANCE.ensureNotNull(contentView, "The content view may not be null");
+        cache.put(key, contentView);
+    }
+
+    /**
+     * Returns the maximum number of content views, which are retained by the pool.
+     *
+     * @return The maximum number of content views, which are retained by the pool, as an {@link
+     * Integer} value
+     */
+    public final int getMaxSize() {
+        return cache.maxSize();
+    }
+
+    /**
+     * Sets the maximum number of content views, which should be retained by the pool. If the pool
+     * currently contains more content views, the least recently used ones are evicted.
+     *
+     * @param maxSize
+     *         The maximum number of content views, which should be set, as an {@link Integer}
+     *         value. The maximum number must be greater than 0
+     */
+    public final void setMaxSize(final int maxSize) {
+        Condition.INSTANCE.ensureGreater(maxSize, 0, "The maximum size must be greater than 0");
+        cache.resize(maxSize);
+    }
+
+    /**
+     * Returns the number of content views, which are currently retained by the pool.
+     *
+     * @return The number of content views, which are currently retained by the pool, as an {@link
+     * Integer} value
+     */
+    public final int size() {
+        return cache.size();
+    }
+
+    /**
+     * Evicts the least recently used content views from the pool, until it contains at maximum a
+     * specific number of content views.
+     *
+     * @param maxSize
+     *         The number of content views, the pool should contain at maximum, as an {@link
+     *         Integer} value. The number must be at least 0
+     */
+    public final void trimToSize(final int maxSize) {
+        Condition.INSTANCE.ensureAtLeast(maxSize, 0, "The maximum size must be at least 0");
+        cache.trimToSize(maxSize);
+    }
+
+    /**
+     * Evicts all content views from the pool.
+     */
+    public final void clear() {
+        cache.evictAll();
+    }
+
+}
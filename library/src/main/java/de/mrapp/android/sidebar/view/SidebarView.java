@@ -16,16 +16,20 @@ package de.mrapp.android.sidebar.view;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.graphics.Bitmap;
+import android.graphics.PixelFormat;
 import android.graphics.drawable.Drawable;
+import android.util.SparseArray;
 import android.view.View;
 import android.widget.ImageView;
 import android.widget.LinearLayout;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import de.mrapp.android.sidebar.Location;
 import de.mrapp.android.sidebar.R;
 import de.mrapp.android.sidebar.inflater.Inflater;
+import de.mrapp.android.sidebar.util.Validation;
 import de.mrapp.android.util.ElevationUtil;
 import de.mrapp.android.util.ElevationUtil.Orientation;
 import de.mrapp.android.util.ViewUtil;
@@ -43,6 +47,18 @@ import static de.mrapp.android.util.ElevationUtil.createElevationShadow;
 @SuppressLint("ViewConstructor")
 public class SidebarView extends LinearLayout {
 
+    /**
+     * A cache, which contains the bitmaps, which have been created to visualize the elevation of
+     * sidebars. The bitmaps are shared between all sidebars, which use the same elevation, location
+     * and display density.
+     */
+    private static final SparseArray<Bitmap> SHADOW_CACHE = new SparseArray<>();
+
+    /**
+     * The display density, the bitmaps, which are contained by the cache, have been created for.
+     */
+    private static float shadowCacheDensity;
+
     /**
      * The sidebar view.
      */
@@ -73,6 +89,13 @@ public class SidebarView extends LinearLayout {
      */
     private Drawable sidebarBackground;
 
+    /**
+     * The number of times, the bitmap, which is used to visualize the sidebar's elevation, has
+     * been updated.
+     */
+    @VisibleForTesting
+    int shadowUpdateCount;
+
     /**
      * Inflates and adds all child views, depending on the location of the sidebar.
      *
@@ -131,6 +154,41 @@ public class SidebarView extends LinearLayout {
         addView(sidebarView, layoutParams);
     }
 
+    /**
+     * Returns the bitmap, which visualizes a specific elevation. If a suitable bitmap has already
+     * been created for another sidebar, it is reused.
+     *
+     * @param elevation
+     *         The elevation in dp as an {@link Integer} value
+     * @param orientation
+     *         The orientation of the shadow as a value of the enum {@link Orientation}. The
+     *         orientation may not be null
+     * @return The bitmap, which visualizes the given elevation, as an instance of the class {@link
+     * Bitmap} or null, if the elevation is 0
+     */
+    private Bitmap obtainElevationShadow(final int elevation,
+                                         @NonNull final Orientation orientation) {
+        float density = getResources().getDisplayMetrics().density;
+
+        if (density != shadowCacheDensity) {
+            SHADOW_CACHE.clear();
+            shadowCacheDensity = density;
+        }
+
+        int key = elevation * Orientation.values().length + orientation.ordinal();
+        Bitmap shadow = SHADOW_CACHE.get(key);
+
+        if (shadow == null) {
+            shadow = createElevationShadow(getContext(), elevation, orientation);
+
+            if (shadow != null) {
+                SHADOW_CACHE.put(key, shadow);
+            }
+        }
+
+        return shadow;
+    }
+
     /**
      * Creates a new custom view, which contains the sidebar view of a sidebar, as well as a view,
      * which is used to visualize a shadow.
@@ -181,15 +239,42 @@ public class SidebarView extends LinearLayout {
      *         must be at least 0 and at maximum 16
      */
     public final void setSidebarElevation(final int elevation) {
-        Condition.INSTANCE.ensureAtLeast(elevation, 0, "The sidebar elevation must be at least 0");
-        Condition.INSTANCE.ensureAtMaximum(elevation, ElevationUtil.MAX_ELEVATION,
-                "The sidebar elevation must be at maximum " + ElevationUtil.MAX_ELEVATION);
+        Validation.ensureInRange(elevation, 0, ElevationUtil.MAX_ELEVATION, "sidebar elevation");
         this.sidebarElevation = elevation;
-        Bitmap shadow = createElevationShadow(getContext(), elevation,
+        updateShadow();
+    }
+
+    /**
+     * Updates the bitmap, which is used to visualize the sidebar's elevation, depending on the
+     * sidebar's elevation and location.
+     */
+    private void updateShadow() {
+        shadowUpdateCount++;
+        Bitmap shadow = obtainElevationShadow(sidebarElevation,
                 getLocation() == Location.LEFT ? Orientation.RIGHT : Orientation.LEFT);
         shadowView.setImageBitmap(shadow);
         shadowWidth = shadow != null ? shadow.getWidth() : 0;
-        setLocation(getLocation());
+    }
+
+    /**
+     * Evicts all bitmaps, which are used to visualize the elevation of sidebars, from the cache.
+     * Bitmaps, which are currently shown by attached sidebars, are still referenced by those
+     * sidebars, but will be created again, when they are needed once more.
+     */
+    public static void clearShadowCache() {
+        SHADOW_CACHE.clear();
+    }
+
+    @Override
+    protected final void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        updateShadow();
+    }
+
+    @Override
+    protected final void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        shadowView.setImageDrawable(null);
     }
 
     /**
@@ -211,6 +296,17 @@ public class SidebarView extends LinearLayout {
      */
     public final void setLocation(@NonNull final Location location) {
         Condition.INSTANCE.ensureNotNull(location, "The location may not be null");
+        applyLocation(location);
+    }
+
+    /**
+     * Applies a specific location, which has already been validated, by rearranging the views.
+     *
+     * @param location
+     *         The location, which should be applied, as a value of the enum {@link Location}. The
+     *         location may not be null
+     */
+    private void applyLocation(@NonNull final Location location) {
         this.location = location;
         removeAllViews();
 
@@ -223,6 +319,32 @@ public class SidebarView extends LinearLayout {
         }
 
         setSidebarBackground(sidebarBackground);
+        updateShadow();
+    }
+
+    /**
+     * Sets the location and the elevation of the sidebar at once. Compared to setting them
+     * individually, the bitmap, which is used to visualize the elevation, is only updated once and
+     * the views are only rearranged, if the location has changed.
+     *
+     * @param location
+     *         The location, which should be set, as a value of the enum {@link Location}. The
+     *         location may either be <code>LEFT</code> or <code>RIGHT</code>
+     * @param elevation
+     *         The elevation, which should be set, in dp as an {@link Integer} value. The elevation
+     *         must be at least 0 and at maximum 16
+     */
+    public final void setLocationAndElevation(@NonNull final Location location,
+                                              final int elevation) {
+        Condition.INSTANCE.ensureNotNull(location, "The location may not be null");
+        Validation.ensureInRange(elevation, 0, ElevationUtil.MAX_ELEVATION, "sidebar elevation");
+        this.sidebarElevation = elevation;
+
+        if (this.location != location) {
+            applyLocation(location);
+        } else {
+            updateShadow();
+        }
     }
 
     /**
@@ -265,6 +387,19 @@ public class SidebarView extends LinearLayout {
         return sidebarView;
     }
 
+    /**
+     * Returns, whether the sidebar view is completely opaque, i.e. whether it hides everything,
+     * which is drawn behind it, or not. The view, which is used to visualize the sidebar's
+     * elevation, is not taken into account.
+     *
+     * @return True, if the sidebar view is completely opaque, false otherwise
+     */
+    public final boolean isSidebarOpaque() {
+        Drawable background = sidebarView.getBackground();
+        return background != null && background.getOpacity() == PixelFormat.OPAQUE &&
+                sidebarView.getVisibility() == View.VISIBLE && sidebarView.getAlpha() == 1.0f;
+    }
+
     /**
      * Returns the width of the view, which is used to visualize the sidebar's elevation.
      *
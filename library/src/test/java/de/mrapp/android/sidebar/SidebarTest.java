@@ -0,0 +1,171 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.SystemClock;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewGroup.LayoutParams;
+import android.view.ViewTreeObserver.OnGlobalLayoutListener;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import androidx.annotation.NonNull;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests the functionality of the class {@link Sidebar}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class SidebarTest {
+
+    /**
+     * A sidebar, which counts how often it evaluates, whether dragging is allowed.
+     */
+    private static class CountingSidebar extends Sidebar {
+
+        /**
+         * The number of times, it has been evaluated, whether dragging is allowed.
+         */
+        private int draggingAllowedEvaluations;
+
+        /**
+         * Creates a new sidebar, which counts how often it evaluates, whether dragging is allowed.
+         *
+         * @param context
+         *         The context, which should be used by the sidebar, as an instance of the class
+         *         {@link Context}. The context may not be null
+         */
+        CountingSidebar(@NonNull final Context context) {
+            super(context);
+        }
+
+        @Override
+        boolean isDraggingAllowed(final float dragStartPosition, final float dragStartPositionY) {
+            draggingAllowedEvaluations++;
+            return super.isDraggingAllowed(dragStartPosition, dragStartPositionY);
+        }
+
+    }
+
+    /**
+     * The activity, which contains the tested sidebars.
+     */
+    private Activity activity;
+
+    /**
+     * Adds a specific sidebar to the activity and lays it out.
+     *
+     * @param sidebar
+     *         The sidebar, which should be added, as an instance of the class {@link Sidebar}. The
+     *         sidebar may not be null
+     */
+    private void attach(@NonNull final Sidebar sidebar) {
+        sidebar.setSidebarView(new View(activity));
+        sidebar.setContentView(new View(activity));
+        activity.setContentView(sidebar,
+                new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT));
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+    }
+
+    /**
+     * Dispatches a motion event with a specific action and position to a specific view.
+     *
+     * @param view
+     *         The view, the motion event should be dispatched to, as an instance of the class
+     *         {@link View}. The view may not be null
+     * @param downTime
+     *         The time, the gesture has been started at, in milliseconds as a {@link Long} value
+     * @param action
+     *         The action of the motion event as an {@link Integer} value
+     * @param x
+     *         The horizontal position of the motion event as a {@link Float} value
+     * @param y
+     *         The vertical position of the motion event as a {@link Float} value
+     */
+    private void dispatchTouchEvent(@NonNull final View view, final long downTime,
+                                    final int action, final float x, final float y) {
+        MotionEvent event =
+                MotionEvent.obtain(downTime, SystemClock.uptimeMillis(), action, x, y, 0);
+        view.dispatchTouchEvent(event);
+        event.recycle();
+    }
+
+    /**
+     * Initializes the activity, which contains the tested sidebars.
+     */
+    @Before
+    public final void setUp() {
+        activity = Robolectric.buildActivity(Activity.class).setup().get();
+    }
+
+    /**
+     * Tests, if it is evaluated only once per drag gesture, whether dragging is allowed.
+     */
+    @Test
+    public final void testDraggingAllowedIsEvaluatedOncePerGesture() {
+        CountingSidebar sidebar = new CountingSidebar(activity);
+        attach(sidebar);
+        long downTime = SystemClock.uptimeMillis();
+        float y = sidebar.getHeight() / 2f;
+        dispatchTouchEvent(sidebar, downTime, MotionEvent.ACTION_DOWN, 0, y);
+
+        for (int i = 1; i <= 10; i++) {
+            dispatchTouchEvent(sidebar, downTime, MotionEvent.ACTION_MOVE, i * 20, y);
+            sidebar.isDragging();
+        }
+
+        dispatchTouchEvent(sidebar, downTime, MotionEvent.ACTION_UP, 200, y);
+        assertEquals(1, sidebar.draggingAllowedEvaluations);
+    }
+
+    /**
+     * Tests, if a sidebar, whose content is resized, does not request any further layout passes
+     * after it has been laid out, as long as nothing has changed.
+     */
+    @Test
+    public final void testNoLayoutPassesAfterIdleFrameWhenResizingContent() {
+        Sidebar sidebar = new Sidebar(activity);
+        sidebar.setContentMode(ContentMode.RESIZE);
+        attach(sidebar);
+        final int[] layoutPasses = new int[1];
+        sidebar.getViewTreeObserver().addOnGlobalLayoutListener(new OnGlobalLayoutListener() {
+
+            @Override
+            public void onGlobalLayout() {
+                layoutPasses[0]++;
+            }
+
+        });
+
+        assertFalse(sidebar.isLayoutRequested());
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertFalse(sidebar.isLayoutRequested());
+        assertEquals(0, layoutPasses[0]);
+    }
+
+}
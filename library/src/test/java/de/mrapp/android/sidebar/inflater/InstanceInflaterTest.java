@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar.inflater;
+
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.lang.ref.WeakReference;
+
+import androidx.annotation.NonNull;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link InstanceInflater}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class InstanceInflaterTest {
+
+    /**
+     * The context, which is used to create views.
+     */
+    private Context context;
+
+    /**
+     * Runs the garbage collector until the object, which is referenced by a specific weak
+     * reference, has been collected, or until a maximum number of attempts has been reached.
+     *
+     * @param reference
+     *         The weak reference as an instance of the class {@link WeakReference}. The reference
+     *         may not be null
+     */
+    private static void collectGarbage(@NonNull final WeakReference<?> reference) {
+        for (int i = 0; i < 20 && reference.get() != null; i++) {
+            System.gc();
+            System.runFinalization();
+        }
+    }
+
+    /**
+     * Inflates the view of a specific inflater into a specific parent and replaces it afterwards.
+     *
+     * @param inflater
+     *         The inflater as an instance of the class {@link InstanceInflater}. The inflater may
+     *         not be null
+     * @param parent
+     *         The parent, the view should be added to, as an instance of the class {@link
+     *         FrameLayout}. The parent may not be null
+     */
+    private void inflateAndReplace(@NonNull final InstanceInflater inflater,
+                                   @NonNull final FrameLayout parent) {
+        inflater.inflate(context, parent, true);
+        parent.removeAllViews();
+        parent.addView(new View(context));
+    }
+
+    /**
+     * Initializes the context, which is used to create views.
+     */
+    @Before
+    public final void setUp() {
+        context = RuntimeEnvironment.application;
+    }
+
+    /**
+     * Tests, if the view is handed over by the first call of the method <code>inflate</code>.
+     */
+    @Test
+    public final void testInflate() {
+        View view = new View(context);
+        InstanceInflater inflater = new InstanceInflater(view);
+        assertFalse(inflater.isConsumed());
+        assertSame(view, inflater.inflate(context, null, false));
+        assertTrue(inflater.isConsumed());
+    }
+
+    /**
+     * Tests, if an {@link IllegalStateException} is thrown, if the method <code>inflate</code> is
+     * called a second time.
+     */
+    @Test(expected = IllegalStateException.class)
+    public final void testInflateThrowsExceptionWhenCalledTwice() {
+        InstanceInflater inflater = new InstanceInflater(new View(context));
+        inflater.inflate(context, null, false);
+        inflater.inflate(context, null, false);
+    }
+
+    /**
+     * Tests, if a view, which has been handed over and replaced afterwards, can be garbage
+     * collected, although the inflater is still referenced.
+     */
+    @Test
+    public final void testReplacedViewIsCollectable() {
+        View view = new View(context);
+        WeakReference<View> reference = new WeakReference<>(view);
+        InstanceInflater inflater = new InstanceInflater(view);
+        FrameLayout parent = new FrameLayout(context);
+        view = null;
+        inflateAndReplace(inflater, parent);
+        collectGarbage(reference);
+        assertNull(reference.get());
+        assertTrue(inflater.isConsumed());
+    }
+
+}
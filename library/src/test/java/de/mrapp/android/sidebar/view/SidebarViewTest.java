@@ -0,0 +1,139 @@
+/*
+ * Copyright 2014 - 2018 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.sidebar.view;
+
+import android.app.Activity;
+import android.os.Parcelable;
+import android.util.SparseArray;
+import android.view.View;
+import android.view.ViewGroup.LayoutParams;
+import android.view.ViewTreeObserver.OnGlobalLayoutListener;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.sidebar.Location;
+import de.mrapp.android.sidebar.Sidebar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests the functionality of the class {@link SidebarView}, when the state of the sidebar, which
+ * contains it, is restored.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class SidebarViewTest {
+
+    /**
+     * The id of the tested sidebars.
+     */
+    private static final int SIDEBAR_ID = 1;
+
+    /**
+     * The activity, which contains the tested sidebars.
+     */
+    private Activity activity;
+
+    /**
+     * Creates and returns a sidebar, which contains a sidebar view and a content view.
+     *
+     * @return The sidebar, which has been created, as an instance of the class {@link Sidebar}.
+     * The sidebar may not be null
+     */
+    @NonNull
+    private Sidebar createSidebar() {
+        Sidebar sidebar = new Sidebar(activity);
+        sidebar.setId(SIDEBAR_ID);
+        sidebar.setSidebarView(new View(activity));
+        sidebar.setContentView(new View(activity));
+        return sidebar;
+    }
+
+    /**
+     * Returns the view, which contains the sidebar view of a specific sidebar.
+     *
+     * @param sidebar
+     *         The sidebar as an instance of the class {@link Sidebar}. The sidebar may not be null
+     * @return The view, which contains the sidebar view of the given sidebar, as an instance of
+     * the class {@link SidebarView}. The view may not be null
+     */
+    @NonNull
+    private SidebarView getSidebarView(@NonNull final Sidebar sidebar) {
+        for (int i = 0; i < sidebar.getChildCount(); i++) {
+            View child = sidebar.getChildAt(i);
+
+            if (child instanceof SidebarView) {
+                return (SidebarView) child;
+            }
+        }
+
+        throw new AssertionError("The sidebar does not contain a sidebar view");
+    }
+
+    /**
+     * Initializes the activity, which contains the tested sidebars.
+     */
+    @Before
+    public final void setUp() {
+        activity = Robolectric.buildActivity(Activity.class).setup().get();
+    }
+
+    /**
+     * Tests, if restoring the state of a sidebar, whose location and elevation differ from the
+     * saved ones, updates the shadow only once and performs only one layout pass.
+     */
+    @Test
+    public final void testRestoreUpdatesShadowOnceAndLaysOutOnce() {
+        Sidebar savedSidebar = createSidebar();
+        savedSidebar.setLocation(Location.LEFT);
+        savedSidebar.setSidebarElevation(4);
+        SparseArray<Parcelable> container = new SparseArray<>();
+        savedSidebar.saveHierarchyState(container);
+        assertNotNull(container.get(SIDEBAR_ID));
+
+        Sidebar sidebar = createSidebar();
+        activity.setContentView(sidebar,
+                new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT));
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        SidebarView sidebarView = getSidebarView(sidebar);
+        sidebarView.shadowUpdateCount = 0;
+        final int[] layoutPasses = new int[1];
+        sidebar.getViewTreeObserver().addOnGlobalLayoutListener(new OnGlobalLayoutListener() {
+
+            @Override
+            public void onGlobalLayout() {
+                layoutPasses[0]++;
+            }
+
+        });
+
+        sidebar.restoreHierarchyState(container);
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertEquals(Location.LEFT, sidebar.getLocation());
+        assertEquals(4, sidebar.getSidebarElevation());
+        assertEquals(1, sidebarView.shadowUpdateCount);
+        assertEquals(1, layoutPasses[0]);
+    }
+
+}